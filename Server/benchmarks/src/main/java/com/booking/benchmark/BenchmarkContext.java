@@ -0,0 +1,58 @@
+package com.booking.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.booking.ServerApplication;
+import com.booking.modal.Event;
+import com.booking.repository.EventRepository;
+import com.booking.request.RegisterRequest;
+import com.booking.service.AuthService;
+
+/**
+ * Boots the real application against an in-memory H2 database in MySQL
+ * mode (see application-bench.properties) so the benchmarks exercise the
+ * same beans, queries and transactions as production.
+ */
+final class BenchmarkContext {
+
+    static final String USER_EMAIL = "bench@example.com";
+    static final String ADMIN_EMAIL = "bench-admin@example.com";
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... args) {
+        SpringApplication app = new SpringApplication(ServerApplication.class);
+        app.setAdditionalProfiles("bench");
+        return app.run(args);
+    }
+
+    static void registerUsers(ConfigurableApplicationContext context) {
+        AuthService authService = context.getBean(AuthService.class);
+        authService.register(new RegisterRequest("Bench User", USER_EMAIL, "password", "USER"));
+        authService.register(new RegisterRequest("Bench Admin", ADMIN_EMAIL, "password", "ADMIN"));
+    }
+
+    static List<Event> createEvents(ConfigurableApplicationContext context, int count, int seats) {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event event = new Event();
+            event.setTitle("Event " + i);
+            event.setDescription("Benchmark event " + i);
+            event.setLocation("City " + (i % 20));
+            event.setDate(start.plusHours(i));
+            event.setTotalSeats(seats);
+            event.setAvailableSeats(seats);
+            event.setPrice(100 + i % 400);
+            event.setImg("https://example.com/" + i + ".png");
+            events.add(event);
+        }
+        return context.getBean(EventRepository.class).saveAll(events);
+    }
+}
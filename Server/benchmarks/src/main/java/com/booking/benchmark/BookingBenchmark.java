@@ -0,0 +1,80 @@
+package com.booking.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.booking.modal.Event;
+import com.booking.request.BookingRequest;
+import com.booking.response.BookingResponse;
+import com.booking.service.BookingService;
+
+/**
+ * BookingServiceImpl.bookEvent under contention. All threads book the same
+ * small set of events, so seat reservation and the batched write path are
+ * contended the way they are during an on-sale. Override the thread count
+ * with -t to see how throughput scales. {@code shards} 0 is the single
+ * batch writer; otherwise bookings go through that many event-sharded
+ * writers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+public class BookingBenchmark {
+
+    // Number of events the threads spread over; 1 is the worst case
+    @Param({ "1", "10" })
+    public int hotEvents;
+
+    @Param({ "0", "4" })
+    public int shards;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private Long[] eventIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "--booking.shards.enabled=" + (shards > 0),
+                "--booking.shards.count=" + Math.max(shards, 1));
+        BenchmarkContext.registerUsers(context);
+        bookingService = context.getBean(BookingService.class);
+
+        // Enough seats that no event sells out during a run
+        List<Event> events = BenchmarkContext.createEvents(context, hotEvents, Integer.MAX_VALUE / 2);
+        eventIds = events.stream().map(Event::getId).toArray(Long[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookingResponse bookEvent() {
+        Long eventId = eventIds[ThreadLocalRandom.current().nextInt(eventIds.length)];
+        BookingRequest request = new BookingRequest(eventId, 1, LocalDateTime.now(), null);
+        return bookingService.bookEvent(BenchmarkContext.USER_EMAIL, request);
+    }
+}
@@ -0,0 +1,84 @@
+package com.booking.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.booking.request.EventPageRequest;
+import com.booking.response.EventCatalogPayload;
+import com.booking.response.EventPageResponse;
+import com.booking.response.EventResponse;
+import com.booking.service.EventCatalogCache;
+import com.booking.service.EventService;
+
+/**
+ * Event reads at several catalogue sizes: the cached list, the pre-encoded
+ * payload behind GET /events, a cold load straight from the database and
+ * the first keyset page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class EventCatalogBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    public int catalogueSize;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private EventCatalogCache eventCatalogCache;
+    private EventPageRequest firstPage;
+    private Long anyEventId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        eventService = context.getBean(EventService.class);
+        eventCatalogCache = context.getBean(EventCatalogCache.class);
+        anyEventId = BenchmarkContext.createEvents(context, catalogueSize, 500).get(0).getId();
+        firstPage = new EventPageRequest();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EventResponse> getAllEvents() {
+        return eventService.getAllEvents();
+    }
+
+    @Benchmark
+    public EventCatalogPayload getAllEventsEncoded() {
+        return eventService.getAllEventsEncoded();
+    }
+
+    @Benchmark
+    public List<EventResponse> getAllEventsUncached() {
+        // Evicts the catalogue, so every call pays for the query and mapping
+        eventCatalogCache.invalidate(anyEventId);
+        return eventService.getAllEvents();
+    }
+
+    @Benchmark
+    public EventPageResponse getEventPage() {
+        return eventService.getEventPage(firstPage);
+    }
+}
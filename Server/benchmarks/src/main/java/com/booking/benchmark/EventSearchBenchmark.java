@@ -0,0 +1,94 @@
+package com.booking.benchmark;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.booking.modal.Event;
+import com.booking.service.EventSearchIndex;
+
+/**
+ * Search latency over a synthetic catalogue. The index is filled directly,
+ * without a database, so catalogues of a million events build in seconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgs = "-Xmx3g")
+public class EventSearchBenchmark {
+
+    private static final String[] GENRES = { "rock", "jazz", "comedy", "opera", "ballet", "techno", "poetry",
+            "theatre", "cricket", "football", "symphony", "hiphop", "magic", "circus", "standup", "workshop" };
+    private static final String[] WORDS = { "night", "evening", "festival", "live", "special", "tour", "gala",
+            "premiere", "session", "showcase", "marathon", "unplugged", "classics", "legends", "weekend" };
+    private static final String[] CITIES = { "Delhi", "Mumbai", "Pune", "Bengaluru", "Chennai", "Kolkata",
+            "Hyderabad", "Jaipur", "Goa", "Lucknow" };
+
+    @Param({ "100000", "1000000" })
+    public int catalogueSize;
+
+    private EventSearchIndex index;
+
+    @Setup
+    public void setUp() throws IOException {
+        index = new EventSearchIndex(null, "", 10000);
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (long id = 1; id <= catalogueSize; id++) {
+            Event event = new Event();
+            event.setId(id);
+            event.setTitle(pick(random, GENRES) + " " + pick(random, WORDS) + " " + id);
+            event.setDescription(pick(random, WORDS) + " " + pick(random, GENRES) + " " + pick(random, WORDS));
+            event.setLocation(pick(random, CITIES));
+            event.setDate(start.plusMinutes(random.nextInt(525_600)));
+            index.index(event);
+        }
+        index.compact();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Benchmark
+    public List<Long> exactWords() {
+        return index.search("jazz festival pune", 20, false);
+    }
+
+    @Benchmark
+    public List<Long> prefix() {
+        return index.search("symphony ev", 20, false);
+    }
+
+    @Benchmark
+    public List<Long> typo() {
+        return index.search("balet premire", 20, false);
+    }
+
+    @Benchmark
+    public List<Long> byDate() {
+        return index.search("comedy mumbai", 20, true);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,234 @@
+package com.booking.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.modal.Booking;
+import com.booking.modal.BookingStatus;
+import com.booking.modal.Event;
+import com.booking.modal.User;
+import com.booking.repository.UserRepository;
+import com.booking.response.EventImportResponse;
+import com.booking.service.EventImportService;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * Inserts per second of events and bookings through Hibernate, 1,000 rows
+ * per transaction. The pooled benchmarks persist the real entities, whose
+ * ids come from id_sequence in blocks of 50, so the flush goes out as JDBC
+ * batches. The identity baselines persist copies of them keyed by IDENTITY,
+ * as before: Hibernate has to run each INSERT on its own, at persist time,
+ * to learn the key. {@code importEvents} is the whole NDJSON import,
+ * parsing, validation and search indexing included.
+ *
+ * H2 in memory has no network round trip to save, so on MySQL, where
+ * rewriteBatchedStatements also folds each batch into one statement, the
+ * gap is considerably wider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class InsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private EventImportService eventImportService;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+    private Long eventId;
+    private byte[] importBody;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.registerUsers(context);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        eventImportService = context.getBean(EventImportService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        userId = context.getBean(UserRepository.class).findByEmail(BenchmarkContext.USER_EMAIL).orElseThrow().getId();
+        eventId = BenchmarkContext.createEvents(context, 1, Integer.MAX_VALUE / 2).get(0).getId();
+
+        LocalDateTime date = LocalDateTime.now().plusDays(30);
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            body.append("{\"title\":\"Imported ").append(i)
+                    .append("\",\"description\":\"Imported event\",\"location\":\"City ").append(i % 20)
+                    .append("\",\"date\":\"").append(date.plusHours(i))
+                    .append("\",\"totalSeats\":500,\"price\":100}\n");
+        }
+        importBody = body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Keeps the tables from growing across iterations
+    @TearDown(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM booking");
+        jdbcTemplate.update("DELETE FROM booking_identity");
+        jdbcTemplate.update("DELETE FROM event WHERE id <> ?", eventId);
+        jdbcTemplate.update("DELETE FROM event_identity");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int eventsPooled() {
+        LocalDateTime date = LocalDateTime.now().plusDays(30);
+        return persistAll(i -> {
+            Event event = new Event();
+            event.setTitle("Event " + i);
+            event.setDescription("Benchmark event " + i);
+            event.setLocation("City " + (i % 20));
+            event.setDate(date.plusHours(i));
+            event.setTotalSeats(500);
+            event.setAvailableSeats(500);
+            event.setPrice(100);
+            event.setImg("https://example.com/" + i + ".png");
+            return event;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int eventsIdentity() {
+        LocalDateTime date = LocalDateTime.now().plusDays(30);
+        return persistAll(i -> {
+            IdentityEvent event = new IdentityEvent();
+            event.title = "Event " + i;
+            event.description = "Benchmark event " + i;
+            event.location = "City " + (i % 20);
+            event.date = date.plusHours(i);
+            event.totalSeats = 500;
+            event.availableSeats = 500;
+            event.price = 100;
+            event.img = "https://example.com/" + i + ".png";
+            return event;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public EventImportResponse importEvents() throws IOException {
+        return eventImportService.importEvents(new ByteArrayInputStream(importBody), EventImportService.Format.NDJSON);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int bookingsPooled() {
+        LocalDateTime now = LocalDateTime.now();
+        return persistAll(i -> {
+            Booking booking = new Booking();
+            booking.setUser(entityManager.getReference(User.class, userId));
+            booking.setEvent(entityManager.getReference(Event.class, eventId));
+            booking.setSeats(2);
+            booking.setTotalAmount(200);
+            booking.setStatus(BookingStatus.confirmed);
+            booking.setBookingDate(now);
+            return booking;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int bookingsIdentity() {
+        LocalDateTime now = LocalDateTime.now();
+        return persistAll(i -> {
+            IdentityBooking booking = new IdentityBooking();
+            booking.user = entityManager.getReference(User.class, userId);
+            booking.event = entityManager.getReference(Event.class, eventId);
+            booking.seats = 2;
+            booking.totalAmount = 200;
+            booking.status = BookingStatus.confirmed.name();
+            booking.bookingDate = now;
+            return booking;
+        });
+    }
+
+    private int persistAll(IntFunction<Object> row) {
+        return transactionTemplate.execute(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(row.apply(i));
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return ROWS;
+        });
+    }
+
+    // Event and Booking as they were keyed before the pooled generator
+    @Entity
+    @Table(name = "event_identity")
+    public static class IdentityEvent {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        String title;
+        String description;
+        String location;
+        LocalDateTime date;
+        Integer totalSeats;
+        Integer availableSeats;
+        Integer price;
+        String img;
+    }
+
+    @Entity
+    @Table(name = "booking_identity")
+    public static class IdentityBooking {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @ManyToOne
+        @JoinColumn(name = "user_id")
+        User user;
+        @ManyToOne
+        @JoinColumn(name = "event_id")
+        Event event;
+        Integer seats;
+        Integer totalAmount;
+        String status;
+        LocalDateTime bookingDate;
+    }
+}
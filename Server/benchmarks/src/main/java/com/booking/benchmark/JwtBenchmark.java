@@ -0,0 +1,86 @@
+package com.booking.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.booking.config.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JwtUtil on its own, without a Spring context. The uncached benchmark
+ * cycles through distinct tokens so each call pays for the signature check; the baseline reproduces the old code path
+ * that rebuilt the key and parser and parsed the token twice per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+    private static final long EXPIRATION = 86_400_000L;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+    private String[] distinctTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION, 10_000);
+        // A zero-size cache keeps every call on the signature check
+        uncachedJwtUtil = new JwtUtil(SECRET, EXPIRATION, 0);
+        token = jwtUtil.generateToken(BenchmarkContext.USER_EMAIL, "USER");
+        // Cycled so the same token is never looked up twice in a row
+        distinctTokens = new String[4096];
+        for (int i = 0; i < distinctTokens.length; i++) {
+            distinctTokens[i] = jwtUtil.generateToken(BenchmarkContext.USER_EMAIL, "USER");
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(BenchmarkContext.USER_EMAIL, "USER");
+    }
+
+    @Benchmark
+    public Claims parseVerifiedCached() {
+        return jwtUtil.parseVerified(token);
+    }
+
+    @Benchmark
+    public Claims parseVerifiedUncached() {
+        next = (next + 1) & (distinctTokens.length - 1);
+        return uncachedJwtUtil.parseVerified(distinctTokens[next]);
+    }
+
+    @Benchmark
+    public String legacyValidateAndExtract() {
+        Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token);
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+}
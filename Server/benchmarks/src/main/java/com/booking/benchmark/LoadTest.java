@@ -0,0 +1,124 @@
+package com.booking.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Closed-loop HTTP load generator for comparing the platform and virtual
+ * thread request modes of a running server. Each client sends its next
+ * request as soon as the previous one completes.
+ *
+ * Usage: LoadTest <url> <clients> <seconds> [bearer token] [json body]
+ *
+ * With a body the request is a POST, otherwise a GET. Prints throughput,
+ * p50/p99/max latency and the number of non-2xx responses.
+ */
+public class LoadTest {
+
+    // Latency histogram in 100 microsecond buckets, up to 60 seconds
+    private static final long BUCKET_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int BUCKETS = 600_000;
+
+    private final HttpClient client;
+    private final HttpRequest request;
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private volatile long deadline;
+    private CountDownLatch done;
+
+    LoadTest(HttpClient client, HttpRequest request) {
+        this.client = client;
+        this.request = request;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 3) {
+            System.err.println("Usage: LoadTest <url> <clients> <seconds> [bearer token] [json body]");
+            System.exit(1);
+        }
+        String url = args[0];
+        int clients = Integer.parseInt(args[1]);
+        int seconds = Integer.parseInt(args[2]);
+        String token = args.length > 3 && !args[3].isEmpty() ? args[3] : null;
+        String body = args.length > 4 ? args[4] : null;
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null)
+            builder.header("Authorization", "Bearer " + token);
+        if (body != null)
+            builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        new LoadTest(client, builder.build()).run(clients, seconds);
+    }
+
+    void run(int clients, int seconds) throws InterruptedException {
+        done = new CountDownLatch(clients);
+        long start = System.nanoTime();
+        deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+
+        for (int i = 0; i < clients; i++) {
+            send();
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+
+        long total = completed.get();
+        System.out.printf("clients=%d duration=%.1fs requests=%d errors=%d%n",
+                clients, elapsed / 1e9, total, failed.get());
+        System.out.printf("throughput=%.0f req/s p50=%.1fms p99=%.1fms max=%.1fms%n",
+                total / (elapsed / 1e9), percentile(0.50), percentile(0.99),
+                maxNanos.get() / 1e6);
+    }
+
+    private void send() {
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, ex) -> {
+                    long now = System.nanoTime();
+                    record(now - sent, ex == null && response.statusCode() / 100 == 2);
+                    if (now < deadline)
+                        send();
+                    else
+                        done.countDown();
+                });
+    }
+
+    private void record(long nanos, boolean ok) {
+        if (!ok)
+            failed.incrementAndGet();
+        completed.incrementAndGet();
+        histogram.incrementAndGet((int) Math.min(nanos / BUCKET_NANOS, BUCKETS - 1));
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private double percentile(double p) {
+        long[] counts = new long[BUCKETS];
+        Arrays.setAll(counts, histogram::get);
+        long target = (long) Math.ceil(completed.get() * p);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target && seen > 0)
+                return (i + 1) * BUCKET_NANOS / 1e6;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.booking.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.booking.service.SeatBitmap;
+
+/**
+ * Best-available allocation on an 80,000 seat stadium (40 sections of 40
+ * rows of 50), with seats taken at random up to the given fill. Each call
+ * claims four adjacent seats and hands them back, so the map stays at its
+ * fill level; at 90% and above most rows have no four free seats together
+ * and the scan has to walk far to find some.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatAllocationBenchmark {
+
+    private static final int SECTIONS = 40;
+    private static final int ROWS = 40;
+    private static final int SEATS_PER_ROW = 50;
+
+    @Param({ "0", "0.5", "0.9", "0.97" })
+    public double fill;
+
+    private SeatBitmap map;
+
+    @Setup
+    public void setUp() {
+        StringBuilder layout = new StringBuilder();
+        for (int s = 0; s < SECTIONS; s++) {
+            if (s > 0)
+                layout.append(',');
+            layout.append('S').append(s).append(':').append(ROWS).append('x').append(SEATS_PER_ROW);
+        }
+        int size = SECTIONS * ROWS * SEATS_PER_ROW;
+        byte[] taken = new byte[(size + 7) / 8];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int seat = 0; seat < size; seat++) {
+            if (random.nextDouble() < fill)
+                taken[seat >>> 3] |= (byte) (1 << (seat & 7));
+        }
+        map = SeatBitmap.of(layout.toString(), taken, 0);
+    }
+
+    @Benchmark
+    public int claimFourAdjacent() {
+        int first = map.claimBestAvailable(4, null);
+        if (first >= 0)
+            map.release(first, 4);
+        return first;
+    }
+
+    @Benchmark
+    public int claimFourInLastSection() {
+        int first = map.claimBestAvailable(4, "S" + (SECTIONS - 1));
+        if (first >= 0)
+            map.release(first, 4);
+        return first;
+    }
+
+    @Benchmark
+    public byte[] snapshot() {
+        return map.toBytes();
+    }
+}
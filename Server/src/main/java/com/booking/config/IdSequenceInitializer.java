@@ -0,0 +1,62 @@
+package com.booking.config;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the pooled id allocator past ids already in use. Tables created
+ * before the switch from IDENTITY keep their rows, and the allocator would
+ * otherwise start handing out ids from 1 again.
+ *
+ * Runs before the web server starts, so no request can allocate an id first.
+ */
+@Component
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    // allocator name -> entity table
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "booking", "booking",
+            "event", "event",
+            "user", "user");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach(this::align);
+    }
+
+    private void align(String sequence, String table) {
+        long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long nextId = maxId + 1;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE id_sequence SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                nextId, sequence, nextId);
+
+        if (updated == 0) {
+            Integer rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM id_sequence WHERE sequence_name = ?", Integer.class, sequence);
+            if (rows == 0) {
+                jdbcTemplate.update(
+                        "INSERT INTO id_sequence (sequence_name, next_val) VALUES (?, ?)", sequence, nextId);
+                updated = 1;
+            }
+        }
+
+        if (updated > 0)
+            log.info("Id allocator '{}' moved past id {}", sequence, maxId);
+    }
+}
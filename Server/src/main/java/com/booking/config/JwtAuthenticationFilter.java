@@ -1,12 +1,18 @@
 package com.booking.config;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -15,7 +21,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.booking.service.CustomUserDetailsService;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -24,9 +31,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final CustomUserDetailsService userDetailsService;
 
-	public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+	private final TokenDenylist tokenDenylist;
+
+	// When true the principal is rebuilt from the signed claims instead of the user table
+	private final boolean stateless;
+
+	// Token check time by outcome; cache hits show up under cache_gets{cache="jwt.verified"}
+	private final Timer validTokens;
+	private final Timer invalidTokens;
+	private final Timer revokedTokens;
+
+	public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService,
+	                               TokenDenylist tokenDenylist,
+	                               @Value("${jwt.stateless-auth:true}") boolean stateless,
+	                               MeterRegistry meterRegistry) {
 	    this.jwtUtil = jwtUtil;
 	    this.userDetailsService = userDetailsService;
+	    this.tokenDenylist = tokenDenylist;
+	    this.stateless = stateless;
+	    this.validTokens = verifyTimer(meterRegistry, "valid");
+	    this.invalidTokens = verifyTimer(meterRegistry, "invalid");
+	    this.revokedTokens = verifyTimer(meterRegistry, "revoked");
 	}
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -41,11 +66,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	    String token = authHeader.substring(7);
 
-	    if (jwtUtil.validateToken(token)) {
+	    // One verification per request; repeat tokens are answered from JwtUtil's cache
+	    long started = System.nanoTime();
+	    Claims claims = jwtUtil.parseVerified(token);
+	    boolean revoked = claims != null && tokenDenylist.isRevoked(claims);
+	    Timer outcome = claims == null ? invalidTokens : revoked ? revokedTokens : validTokens;
+	    outcome.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
 
-	        String email = jwtUtil.extractEmail(token);
+	    if (claims != null && !revoked) {
 
-	        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+	        UserDetails userDetails = loadUser(claims);
 
 	        UsernamePasswordAuthenticationToken authentication =
 	                new UsernamePasswordAuthenticationToken(
@@ -58,4 +88,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	    filterChain.doFilter(request, response);
 	}
-}
\ No newline at end of file
+
+	private static Timer verifyTimer(MeterRegistry registry, String result) {
+	    return Timer.builder("auth.token.verify")
+	            .description("Bearer token verification, including the revocation check")
+	            .tag("result", result)
+	            .publishPercentileHistogram()
+	            .register(registry);
+	}
+
+	private UserDetails loadUser(Claims claims) {
+	    String email = claims.getSubject();
+	    String role = claims.get("role", String.class);
+
+	    // Tokens issued before the role claim existed still go to the database
+	    if (!stateless || role == null) {
+	        return userDetailsService.loadUserByUsername(email);
+	    }
+
+	    return new User(email, "", List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+	}
+}
@@ -5,53 +5,122 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    // The key and parser are immutable and thread-safe, so they are built once
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final long expiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // Tokens whose signature has already been checked, dropped when the token expires
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") long expiration,
+                   @Value("${jwt.cache.max-size:10000}") long cacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.expiration = expiration;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new UntilTokenExpiry(expiration))
+                .recordStats()
+                .build();
+    }
+
+    // Hit ratio of the verified-token cache, as cache_gets{cache="jwt.verified"}
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt.verified");
     }
 
     public String generateToken(String email, String role) {
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .claim("role", role)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 86400000))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
+
+    /**
+     * Verifies the token once and returns its claims, or null when the token
+     * is malformed, tampered with or expired. Repeat calls for the same token
+     * are served from the cache until the token expires.
+     */
+    public Claims parseVerified(String token) {
+        Claims claims = verifiedTokens.getIfPresent(token);
+        if (claims != null) {
+            return claims;
+        }
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        verifiedTokens.put(token, claims);
+        return claims;
+    }
+
     public String extractEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return extractAllClaims(token).getSubject();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return parseVerified(token) != null;
     }
+
     public Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseVerified(token);
+        if (claims == null) {
+            throw new MalformedJwtException("Invalid or expired token");
+        }
+        return claims;
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        private final long defaultTtlMillis;
+
+        private UntilTokenExpiry(long defaultTtlMillis) {
+            this.defaultTtlMillis = defaultTtlMillis;
+        }
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiresAt = claims.getExpiration();
+            long ttl = expiresAt != null
+                    ? expiresAt.getTime() - System.currentTimeMillis()
+                    : defaultTtlMillis;
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(ttl, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,9 +3,12 @@ package com.booking.config;
 import com.booking.service.CustomUserDetailsService;
 
 import java.util.List;
+import jakarta.servlet.DispatcherType;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.*;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -27,11 +30,14 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomUserDetailsService userDetailsService;
+    private final int bcryptStrength;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
-                          CustomUserDetailsService userDetailsService) {
+                          CustomUserDetailsService userDetailsService,
+                          @Value("${auth.bcrypt.strength:10}") int bcryptStrength) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.userDetailsService = userDetailsService;
+        this.bcryptStrength = bcryptStrength;
     }
 
     @Bean
@@ -44,7 +50,12 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
+            	    // Streamed responses finish on an async dispatch of an already authorised request
+            	    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             	    .requestMatchers("/auth/**").permitAll()
+            	    .requestMatchers("/actuator/health/**").permitAll()
+            	    .requestMatchers("/actuator/**").hasRole("ADMIN")
+            	    .requestMatchers(HttpMethod.GET, "/events/availability/stream").permitAll()
             	    .requestMatchers("/admin/**").hasRole("ADMIN")
             	    .requestMatchers("/api/users/**").permitAll()
             	    .requestMatchers("/bookings/**").hasAnyRole("USER","ADMIN")
@@ -62,6 +73,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
+        // Hashes weaker than auth.bcrypt.strength are replaced on the next successful login
+        provider.setUserDetailsPasswordService(userDetailsService);
         return provider;
     }
 
@@ -81,6 +94,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("http://localhost:5173"));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of("X-Next-Page"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -90,6 +104,6 @@ public class SecurityConfig {
     }
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.booking.config;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Revoked tokens, keyed by their jti. An entry is only needed until the
+ * token would have expired anyway, so the map stays as small as the number
+ * of logouts within one token lifetime.
+ */
+@Component
+public class TokenDenylist {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    public void revoke(Claims claims) {
+        if (claims.getId() == null)
+            return;
+        Date expiresAt = claims.getExpiration();
+        revoked.put(claims.getId(), expiresAt != null ? expiresAt.getTime() : Long.MAX_VALUE);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        return claims.getId() != null && revoked.containsKey(claims.getId());
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt < now);
+    }
+}
@@ -1,13 +1,20 @@
 package com.booking.controller;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.booking.request.AuthRequest;
 import com.booking.request.RegisterRequest;
-import com.booking.response.AuthResponse;
 import com.booking.service.AuthService;
+import com.booking.service.LoginRateLimiter;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -15,19 +22,57 @@ import jakarta.validation.Valid;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, LoginRateLimiter loginRateLimiter) {
         this.authService = authService;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
+    // Hashed on the same bounded pool as logins; 503 when it is full
     @PostMapping("/register")
-    public ResponseEntity<String> register(@Valid @RequestBody RegisterRequest request) {
-        authService.register(request);
-        return ResponseEntity.ok("User registered successfully");
+    public CompletableFuture<ResponseEntity<?>> register(@Valid @RequestBody RegisterRequest request) {
+        return authService.registerAsync(request)
+                .<ResponseEntity<?>>thenApply(done -> ResponseEntity.ok("User registered successfully"))
+                .exceptionally(AuthController::busy);
     }
 
+    // The password check runs on the hashing pool and the request thread is
+    // released meanwhile; 429 when rate limited, 503 when the pool is full
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request) {
-        return ResponseEntity.ok(authService.login(request));
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody AuthRequest request,
+                                                      HttpServletRequest servletRequest) {
+
+        long retryAfter = loginRateLimiter.tryAcquire(request.getEmail(), servletRequest.getRemoteAddr());
+        if (retryAfter > 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body("Too many login attempts"));
+        }
+
+        return authService.loginAsync(request)
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(AuthController::busy);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return ResponseEntity.badRequest().body("Missing bearer token");
+        }
+        authService.logout(authHeader.substring(7));
+        return ResponseEntity.ok("Logged out successfully");
+    }
+
+    // 503 when the hashing pool turned the request away; anything else is rethrown
+    private static ResponseEntity<?> busy(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Busy, try again shortly");
+        }
+        throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.booking.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.booking.service.AvailabilityStreamService;
+
+@RestController
+@RequestMapping("/events/availability")
+public class AvailabilityController {
+
+    private final AvailabilityStreamService availabilityStreamService;
+
+    public AvailabilityController(AvailabilityStreamService availabilityStreamService) {
+        this.availabilityStreamService = availabilityStreamService;
+    }
+
+    // Public, since EventSource cannot send an Authorization header.
+    // Sends the current counts, then an "availability" event whenever one changes.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam List<Long> eventIds) {
+        return availabilityStreamService.subscribe(eventIds);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/subscribers")
+    public ResponseEntity<Integer> getSubscriberCount() {
+        return ResponseEntity.ok(availabilityStreamService.getSubscriberCount());
+    }
+}
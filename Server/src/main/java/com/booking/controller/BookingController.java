@@ -3,13 +3,19 @@ package com.booking.controller;
 import java.security.Principal;
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import com.booking.modal.BookingStatus;
 import com.booking.request.BookingRequest;
 import com.booking.response.BookingResponse;
+import com.booking.response.QueueStatusResponse;
 import com.booking.service.BookingService;
+import com.booking.service.WaitingRoomService;
 
 import jakarta.validation.Valid;
 
@@ -18,28 +24,63 @@ import jakarta.validation.Valid;
 @PreAuthorize("hasAnyRole('USER','ADMIN')")
 public class BookingController {
 
+    public static final String NEXT_PAGE = "X-Next-Page";
+
     private final BookingService bookingService;
+    private final WaitingRoomService waitingRoomService;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, WaitingRoomService waitingRoomService) {
         this.bookingService = bookingService;
+        this.waitingRoomService = waitingRoomService;
     }
 
+    // Attempts that are still queued get 429 with their queue position and
+    // never reach the booking service. Retries of a completed Idempotency-Key
+    // are answered before queueing.
     @PostMapping
-    public ResponseEntity<BookingResponse> bookEvent(
+    public ResponseEntity<?> bookEvent(
             @Valid @RequestBody BookingRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             Principal principal) {
 
+        BookingResponse replay = bookingService.findCompletedBooking(principal.getName(), request, idempotencyKey);
+        if (replay != null)
+            return ResponseEntity.ok(replay);
+
+        QueueStatusResponse admission = waitingRoomService.admit(request.getEventId(), principal.getName());
+        if (!admission.isAdmitted()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, admission.getEstimatedWaitSeconds())))
+                    .body(admission);
+        }
+
         return ResponseEntity.ok(
-                bookingService.bookEvent(principal.getName(), request)
+                bookingService.bookEvent(principal.getName(), request, idempotencyKey)
         );
     }
 
+    // X-Next-Page is set while there are more bookings after this page
     @GetMapping
     public ResponseEntity<List<BookingResponse>> getUserBookings(
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            Principal principal) {
+
+        Slice<BookingResponse> bookings = bookingService.getUserBookings(principal.getName(), status, page, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (bookings.hasNext())
+            response.header(NEXT_PAGE, String.valueOf(page + 1));
+        return response.body(bookings.getContent());
+    }
+
+    @PostMapping("/{bookingId}/confirm")
+    public ResponseEntity<BookingResponse> confirmBooking(
+            @PathVariable Long bookingId,
             Principal principal) {
 
         return ResponseEntity.ok(
-                bookingService.getUserBookings(principal.getName())
+                bookingService.confirmBooking(bookingId, principal.getName())
         );
     }
 
@@ -0,0 +1,42 @@
+package com.booking.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.booking.request.BulkCancelRequest;
+import com.booking.response.CancellationJobResponse;
+import com.booking.service.BulkCancellationService;
+
+import jakarta.validation.Valid;
+
+// Jobs run in the background; poll GET /bookings/cancellations/{jobId} for progress
+@RestController
+@RequestMapping("/bookings/cancellations")
+@PreAuthorize("hasRole('ADMIN')")
+public class BulkCancellationController {
+
+    private final BulkCancellationService bulkCancellationService;
+
+    public BulkCancellationController(BulkCancellationService bulkCancellationService) {
+        this.bulkCancellationService = bulkCancellationService;
+    }
+
+    @PostMapping("/events/{eventId}")
+    public ResponseEntity<CancellationJobResponse> cancelEventBookings(@PathVariable Long eventId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(bulkCancellationService.cancelEventBookings(eventId));
+    }
+
+    @PostMapping
+    public ResponseEntity<CancellationJobResponse> cancelBookings(@Valid @RequestBody BulkCancelRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(bulkCancellationService.cancelBookings(request.getBookingIds()));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<CancellationJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(bulkCancellationService.getJob(jobId));
+    }
+}
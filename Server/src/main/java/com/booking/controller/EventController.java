@@ -1,15 +1,34 @@
 package com.booking.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.booking.request.EventPageRequest;
 import com.booking.request.EventRequest;
+import com.booking.request.SeatMapRequest;
+import com.booking.response.CacheStatsResponse;
+import com.booking.response.EventCatalogPayload;
+import com.booking.response.EventImportResponse;
+import com.booking.response.EventPageResponse;
 import com.booking.response.EventResponse;
+import com.booking.response.SeatMapResponse;
+import com.booking.service.BookingExportService;
+import com.booking.service.EventImportService;
 import com.booking.service.EventService;
+import com.booking.service.SeatMapService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -17,15 +36,56 @@ import jakarta.validation.Valid;
 public class EventController {
 
     private final EventService eventService;
+    private final EventImportService eventImportService;
+    private final BookingExportService bookingExportService;
+    private final SeatMapService seatMapService;
+    private final long exportTimeoutMs;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService,
+                           EventImportService eventImportService,
+                           BookingExportService bookingExportService,
+                           SeatMapService seatMapService,
+                           @Value("${events.export.timeout-ms:1800000}") long exportTimeoutMs) {
         this.eventService = eventService;
+        this.eventImportService = eventImportService;
+        this.bookingExportService = bookingExportService;
+        this.seatMapService = seatMapService;
+        this.exportTimeoutMs = exportTimeoutMs;
     }
 
-    // Public
+    // Public. Served from the pre-encoded listing; Spring answers a matching
+    // If-None-Match with 304 from the ETag alone.
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getAllEvents() {
-        return ResponseEntity.ok(eventService.getAllEvents());
+    public ResponseEntity<byte[]> getAllEvents(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        EventCatalogPayload payload = eventService.getAllEventsEncoded();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return response
+                    .eTag(payload.getEtag().replaceFirst("\"$", "-gzip\""))
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(payload.getGzip());
+        }
+        return response.eTag(payload.getEtag()).body(payload.getJson());
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<EventPageResponse> getEventPage(@Valid EventPageRequest request) {
+        return ResponseEntity.ok(eventService.getEventPage(request));
+    }
+
+    // Full-text search over title, description and location; tolerates typos
+    // and matches the last word as a prefix
+    @GetMapping("/search")
+    public ResponseEntity<List<EventResponse>> searchEvents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "relevance") String sort) {
+        return ResponseEntity.ok(eventService.searchEvents(q, limit, sort));
     }
 
     @GetMapping("/{id}")
@@ -33,6 +93,11 @@ public class EventController {
         return ResponseEntity.ok(eventService.getEventById(id));
     }
 
+    @GetMapping("/{id}/seat-map")
+    public ResponseEntity<SeatMapResponse> getSeatMap(@PathVariable Long id) {
+        return ResponseEntity.ok(seatMapService.getSeatMap(id));
+    }
+
     // Admin Only
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
@@ -41,6 +106,45 @@ public class EventController {
         return ResponseEntity.ok(eventService.createEvent(request));
     }
 
+    // Body is read as a stream: one JSON object per line, or CSV with a header row
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<EventImportResponse> importEvents(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+
+        boolean csv = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf("text/csv"));
+        EventImportService.Format format = csv ? EventImportService.Format.CSV : EventImportService.Format.NDJSON;
+        return ResponseEntity.ok(eventImportService.importEvents(body, format));
+    }
+
+    // Written on an async thread straight from the database cursor
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{id}/bookings/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest servletRequest) {
+
+        BookingExportService.Format exportFormat = switch (format.toLowerCase()) {
+            case "csv" -> BookingExportService.Format.CSV;
+            case "ndjson" -> BookingExportService.Format.NDJSON;
+            default -> throw new IllegalArgumentException("Format must be csv or ndjson");
+        };
+        // Fails before the response is committed when the event does not exist
+        eventService.getEventById(id);
+
+        // Longer than the default async timeout, for this response only
+        WebAsyncUtils.getAsyncManager(servletRequest).getAsyncWebRequest().setTimeout(exportTimeoutMs);
+
+        boolean csv = exportFormat == BookingExportService.Format.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.valueOf("text/csv") : MediaType.valueOf("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"event-" + id + "-bookings." + (csv ? "csv" : "ndjson") + "\"")
+                .body(output -> bookingExportService.exportEventBookings(id, exportFormat, output));
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
     public ResponseEntity<EventResponse> updateEvent(
@@ -49,10 +153,56 @@ public class EventController {
         return ResponseEntity.ok(eventService.updateEvent(id, request));
     }
 
+    // Turns the event into reserved seating; its seat count becomes the layout's
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{id}/seat-map")
+    public ResponseEntity<SeatMapResponse> setSeatMap(
+            @PathVariable Long id,
+            @Valid @RequestBody SeatMapRequest request) {
+        return ResponseEntity.ok(seatMapService.setSeatMap(id, request));
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteEvent(@PathVariable Long id) {
         eventService.deleteEvent(id);
         return ResponseEntity.ok("Event deleted successfully");
     }
-}
\ No newline at end of file
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(eventService.getCacheStats());
+    }
+
+    // gzip, or *, listed with a q-value above zero; an explicit gzip entry overrides *
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null)
+            return false;
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = quality(parts) > 0;
+            if (name.equals("gzip") || name.equals("x-gzip"))
+                return accepted;
+            if (name.equals("*"))
+                wildcard = accepted;
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,56 @@
+package com.booking.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.booking.response.EventSalesResponse;
+import com.booking.response.LocationSalesResponse;
+import com.booking.response.SalesBucketResponse;
+import com.booking.response.SalesReconciliationResponse;
+import com.booking.service.SalesAnalyticsService;
+
+// Sales figures from the running totals; no request scans the booking table
+@RestController
+@RequestMapping("/admin/analytics")
+@PreAuthorize("hasRole('ADMIN')")
+public class SalesAnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    public SalesAnalyticsController(SalesAnalyticsService salesAnalyticsService) {
+        this.salesAnalyticsService = salesAnalyticsService;
+    }
+
+    @GetMapping("/events")
+    public ResponseEntity<List<EventSalesResponse>> getTopEvents(
+            @RequestParam(defaultValue = "revenue") String sort,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(salesAnalyticsService.getTopEvents(sort, limit));
+    }
+
+    @GetMapping("/events/{id}")
+    public ResponseEntity<EventSalesResponse> getEventSales(@PathVariable Long id) {
+        return ResponseEntity.ok(salesAnalyticsService.getEventSales(id));
+    }
+
+    @GetMapping("/events/{id}/rate")
+    public ResponseEntity<List<SalesBucketResponse>> getSalesRate(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "24") int hours) {
+        return ResponseEntity.ok(salesAnalyticsService.getSalesRate(id, hours));
+    }
+
+    @GetMapping("/locations")
+    public ResponseEntity<List<LocationSalesResponse>> getLocationSales() {
+        return ResponseEntity.ok(salesAnalyticsService.getLocationSales());
+    }
+
+    // Runs the scheduled check now; scans the bookings of every event
+    @PostMapping("/reconcile")
+    public ResponseEntity<SalesReconciliationResponse> reconcile() {
+        return ResponseEntity.ok(salesAnalyticsService.reconcile());
+    }
+}
@@ -0,0 +1,63 @@
+package com.booking.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.booking.response.QueueStatusResponse;
+import com.booking.service.WaitingRoomService;
+
+@RestController
+@RequestMapping("/bookings/queue")
+@PreAuthorize("hasAnyRole('USER','ADMIN')")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    public WaitingRoomController(WaitingRoomService waitingRoomService) {
+        this.waitingRoomService = waitingRoomService;
+    }
+
+    @PostMapping("/{eventId}")
+    public ResponseEntity<QueueStatusResponse> join(
+            @PathVariable Long eventId,
+            Principal principal) {
+
+        return ResponseEntity.ok(
+                waitingRoomService.join(eventId, principal.getName())
+        );
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<QueueStatusResponse> getStatus(
+            @PathVariable String ticketId,
+            Principal principal) {
+
+        return ResponseEntity.ok(
+                waitingRoomService.getStatus(ticketId, principal.getName())
+        );
+    }
+
+    // Pushes a "position" event every second until the ticket is admitted
+    @GetMapping(value = "/tickets/{ticketId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatus(
+            @PathVariable String ticketId,
+            Principal principal) {
+
+        return waitingRoomService.streamStatus(ticketId, principal.getName());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{eventId}/rate")
+    public ResponseEntity<String> setRate(
+            @PathVariable Long eventId,
+            @RequestParam double perSecond) {
+
+        waitingRoomService.setRate(eventId, perSecond);
+        return ResponseEntity.ok("Admission rate updated");
+    }
+}
@@ -11,11 +11,17 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.*;
 
 @Entity
-
+@Table(indexes = {
+        @Index(name = "idx_booking_user_date", columnList = "user_id, booking_date"),
+        // Live holds are loaded by status at startup
+        @Index(name = "idx_booking_status_hold", columnList = "status, hold_expires_at")
+})
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "booking_id")
+    @TableGenerator(name = "booking_id", table = "id_sequence", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "booking", allocationSize = 50)
     private Long id;
 
     private Integer quantity;
@@ -35,6 +41,12 @@ public class Booking {
     private Event event;
     
     private Integer seats;
+
+    // Index of the first seat in the event's seat map; null for general admission
+    private Integer firstSeat;
+
+    // Set while the booking is held; the hold is released after this time
+    private LocalDateTime holdExpiresAt;
     
 	public Long getId() {
 		return id;
@@ -52,6 +64,14 @@ public class Booking {
 		this.seats = seats;
 	}
 
+	public Integer getFirstSeat() {
+		return firstSeat;
+	}
+
+	public void setFirstSeat(Integer firstSeat) {
+		this.firstSeat = firstSeat;
+	}
+
 	public User getUser() {
 		return user;
 	}
@@ -104,6 +124,14 @@ public class Booking {
 		this.status = status;
 	}
 
+	public LocalDateTime getHoldExpiresAt() {
+		return holdExpiresAt;
+	}
+
+	public void setHoldExpiresAt(LocalDateTime holdExpiresAt) {
+		this.holdExpiresAt = holdExpiresAt;
+	}
+
 	public Booking(Long id, Integer quantity, Integer totalAmount, LocalDateTime bookingDate, BookingStatus status,
 			User user, Event event, Integer seats) {
 		super();
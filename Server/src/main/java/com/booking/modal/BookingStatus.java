@@ -1,7 +1,14 @@
 package com.booking.modal;
 
+import java.util.Set;
+
 public enum BookingStatus {
 
+	  held,
 	  confirmed,
-	  cancelled
+	  cancelled,
+	  expired;
+
+	  // Statuses that still hold seats
+	  public static final Set<BookingStatus> ACTIVE = Set.of(held, confirmed);
 }
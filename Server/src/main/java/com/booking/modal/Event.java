@@ -8,14 +8,23 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_event_date_id", columnList = "date, id"),
+        @Index(name = "idx_event_location_date_id", columnList = "location, date, id")
+})
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "event_id")
+    @TableGenerator(name = "event_id", table = "id_sequence", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "event", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -0,0 +1,140 @@
+package com.booking.modal;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+// Running sales totals of one event, kept in step with its bookings. Every booking
+// counts as booked once; cancelled and expired count the bookings that left since,
+// so what is still sold is booked minus cancelled minus expired.
+@Entity
+public class EventSales {
+
+    @Id
+    private Long eventId;
+
+    private Long bookedBookings;
+    private Long bookedSeats;
+    private Long bookedAmount;
+
+    private Long cancelledBookings;
+    private Long cancelledSeats;
+    private Long cancelledAmount;
+
+    private Long expiredBookings;
+    private Long expiredSeats;
+    private Long expiredAmount;
+
+    private LocalDateTime updatedAt;
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public Long getBookedBookings() {
+		return bookedBookings;
+	}
+
+	public void setBookedBookings(Long bookedBookings) {
+		this.bookedBookings = bookedBookings;
+	}
+
+	public Long getBookedSeats() {
+		return bookedSeats;
+	}
+
+	public void setBookedSeats(Long bookedSeats) {
+		this.bookedSeats = bookedSeats;
+	}
+
+	public Long getBookedAmount() {
+		return bookedAmount;
+	}
+
+	public void setBookedAmount(Long bookedAmount) {
+		this.bookedAmount = bookedAmount;
+	}
+
+	public Long getCancelledBookings() {
+		return cancelledBookings;
+	}
+
+	public void setCancelledBookings(Long cancelledBookings) {
+		this.cancelledBookings = cancelledBookings;
+	}
+
+	public Long getCancelledSeats() {
+		return cancelledSeats;
+	}
+
+	public void setCancelledSeats(Long cancelledSeats) {
+		this.cancelledSeats = cancelledSeats;
+	}
+
+	public Long getCancelledAmount() {
+		return cancelledAmount;
+	}
+
+	public void setCancelledAmount(Long cancelledAmount) {
+		this.cancelledAmount = cancelledAmount;
+	}
+
+	public Long getExpiredBookings() {
+		return expiredBookings;
+	}
+
+	public void setExpiredBookings(Long expiredBookings) {
+		this.expiredBookings = expiredBookings;
+	}
+
+	public Long getExpiredSeats() {
+		return expiredSeats;
+	}
+
+	public void setExpiredSeats(Long expiredSeats) {
+		this.expiredSeats = expiredSeats;
+	}
+
+	public Long getExpiredAmount() {
+		return expiredAmount;
+	}
+
+	public void setExpiredAmount(Long expiredAmount) {
+		this.expiredAmount = expiredAmount;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(LocalDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+	public EventSales() {
+		super();
+	}
+
+	public EventSales(Long eventId, Long bookedBookings, Long bookedSeats, Long bookedAmount,
+			Long cancelledBookings, Long cancelledSeats, Long cancelledAmount,
+			Long expiredBookings, Long expiredSeats, Long expiredAmount, LocalDateTime updatedAt) {
+		super();
+		this.eventId = eventId;
+		this.bookedBookings = bookedBookings;
+		this.bookedSeats = bookedSeats;
+		this.bookedAmount = bookedAmount;
+		this.cancelledBookings = cancelledBookings;
+		this.cancelledSeats = cancelledSeats;
+		this.cancelledAmount = cancelledAmount;
+		this.expiredBookings = expiredBookings;
+		this.expiredSeats = expiredSeats;
+		this.expiredAmount = expiredAmount;
+		this.updatedAt = updatedAt;
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.booking.modal;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_idempotency_created", columnList = "created_at")
+})
+public class IdempotencyRecord {
+
+    // Client key scoped by user email, so two users can reuse the same key
+    @Id
+    @Column(length = 320)
+    private String idempotencyKey;
+
+    private String requestFingerprint;
+
+    private Long bookingId;
+
+    // The response as first sent, so a retry gets exactly that back
+    @Lob
+    @Column(length = 1 << 16, nullable = false)
+    private String response;
+
+    private LocalDateTime createdAt;
+
+	public String getIdempotencyKey() {
+		return idempotencyKey;
+	}
+
+	public void setIdempotencyKey(String idempotencyKey) {
+		this.idempotencyKey = idempotencyKey;
+	}
+
+	public String getRequestFingerprint() {
+		return requestFingerprint;
+	}
+
+	public void setRequestFingerprint(String requestFingerprint) {
+		this.requestFingerprint = requestFingerprint;
+	}
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public void setBookingId(Long bookingId) {
+		this.bookingId = bookingId;
+	}
+
+	public String getResponse() {
+		return response;
+	}
+
+	public void setResponse(String response) {
+		this.response = response;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public IdempotencyRecord() {
+		super();
+	}
+
+	public IdempotencyRecord(String idempotencyKey, String requestFingerprint, Long bookingId,
+			LocalDateTime createdAt) {
+		super();
+		this.idempotencyKey = idempotencyKey;
+		this.requestFingerprint = requestFingerprint;
+		this.bookingId = bookingId;
+		this.createdAt = createdAt;
+	}
+
+}
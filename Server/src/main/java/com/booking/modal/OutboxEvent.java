@@ -0,0 +1,107 @@
+package com.booking.modal;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+// Written in the same transaction as the booking change it describes, deleted once delivered
+@Entity
+public class OutboxEvent {
+
+    // Rows are inserted with plain JDBC, so the database assigns the id
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType type;
+
+    private Long bookingId;
+
+    private Long eventId;
+
+    private Integer seats;
+
+    private LocalDateTime createdAt;
+
+    // Failed deliveries; the relay stops retrying at booking.outbox.max-attempts
+    private Integer attempts;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public OutboxEventType getType() {
+		return type;
+	}
+
+	public void setType(OutboxEventType type) {
+		this.type = type;
+	}
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public void setBookingId(Long bookingId) {
+		this.bookingId = bookingId;
+	}
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public Integer getSeats() {
+		return seats;
+	}
+
+	public void setSeats(Integer seats) {
+		this.seats = seats;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public Integer getAttempts() {
+		return attempts;
+	}
+
+	public void setAttempts(Integer attempts) {
+		this.attempts = attempts;
+	}
+
+	public OutboxEvent() {
+		super();
+	}
+
+	public OutboxEvent(Long id, OutboxEventType type, Long bookingId, Long eventId, Integer seats,
+			LocalDateTime createdAt, Integer attempts) {
+		super();
+		this.id = id;
+		this.type = type;
+		this.bookingId = bookingId;
+		this.eventId = eventId;
+		this.seats = seats;
+		this.createdAt = createdAt;
+		this.attempts = attempts;
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.booking.modal;
+
+public enum OutboxEventType {
+
+	  BOOKING_HELD,
+	  BOOKING_CONFIRMED,
+	  BOOKING_CANCELLED,
+	  BOOKING_EXPIRED
+}
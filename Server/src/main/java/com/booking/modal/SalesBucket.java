@@ -0,0 +1,108 @@
+package com.booking.modal;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// Bookings of one event within one hour, for sales rates over time
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sales_bucket_event_start", columnNames = { "event_id", "bucket_start" })
+})
+public class SalesBucket {
+
+    // Rows are upserted with plain JDBC, so the database assigns the id
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long eventId;
+
+    // Start of the hour
+    private LocalDateTime bucketStart;
+
+    private Long bookings;
+    private Long seats;
+    private Long amount;
+
+    // Seats cancelled or expired within the hour
+    private Long releasedSeats;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public LocalDateTime getBucketStart() {
+		return bucketStart;
+	}
+
+	public void setBucketStart(LocalDateTime bucketStart) {
+		this.bucketStart = bucketStart;
+	}
+
+	public Long getBookings() {
+		return bookings;
+	}
+
+	public void setBookings(Long bookings) {
+		this.bookings = bookings;
+	}
+
+	public Long getSeats() {
+		return seats;
+	}
+
+	public void setSeats(Long seats) {
+		this.seats = seats;
+	}
+
+	public Long getAmount() {
+		return amount;
+	}
+
+	public void setAmount(Long amount) {
+		this.amount = amount;
+	}
+
+	public Long getReleasedSeats() {
+		return releasedSeats;
+	}
+
+	public void setReleasedSeats(Long releasedSeats) {
+		this.releasedSeats = releasedSeats;
+	}
+
+	public SalesBucket() {
+		super();
+	}
+
+	public SalesBucket(Long id, Long eventId, LocalDateTime bucketStart, Long bookings, Long seats,
+			Long amount, Long releasedSeats) {
+		super();
+		this.id = id;
+		this.eventId = eventId;
+		this.bucketStart = bucketStart;
+		this.bookings = bookings;
+		this.seats = seats;
+		this.amount = amount;
+		this.releasedSeats = releasedSeats;
+	}
+
+}
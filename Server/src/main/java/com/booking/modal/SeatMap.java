@@ -0,0 +1,70 @@
+package com.booking.modal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+
+@Entity
+public class SeatMap {
+
+    // One seat map per event, keyed by the event's id
+    @Id
+    private Long eventId;
+
+    // Sections as name:rowsxseats, comma separated, best section first
+    @Column(length = 4000)
+    private String layout;
+
+    // One bit per seat, set while the seat is taken
+    @Lob
+    @Column(length = 1 << 20)
+    private byte[] taken;
+
+    private Long revision;
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public String getLayout() {
+		return layout;
+	}
+
+	public void setLayout(String layout) {
+		this.layout = layout;
+	}
+
+	public byte[] getTaken() {
+		return taken;
+	}
+
+	public void setTaken(byte[] taken) {
+		this.taken = taken;
+	}
+
+	public Long getRevision() {
+		return revision;
+	}
+
+	public void setRevision(Long revision) {
+		this.revision = revision;
+	}
+
+	public SeatMap() {
+		super();
+	}
+
+	public SeatMap(Long eventId, String layout, byte[] taken, Long revision) {
+		super();
+		this.eventId = eventId;
+		this.layout = layout;
+		this.taken = taken;
+		this.revision = revision;
+	}
+
+}
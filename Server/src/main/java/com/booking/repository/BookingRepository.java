@@ -1,26 +1,130 @@
 package com.booking.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.booking.modal.Booking;
-import com.booking.modal.User;
+import com.booking.modal.BookingStatus;
+import com.booking.response.BookingResponse;
 
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-	List<Booking> findByUser(User user);
 
+    // Single query straight into the DTO, so no Booking/Event entities are loaded
+    @Query("SELECT new com.booking.response.BookingResponse("
+            + "b.id, e.title, b.seats, 'Booking retrieved', b.status, "
+            + "e.date, e.location, b.seats * e.price, b.bookingDate) "
+            + "FROM Booking b JOIN b.event e "
+            + "WHERE b.user.email = :email "
+            + "AND (:status IS NULL OR b.status = :status) "
+            + "ORDER BY b.bookingDate DESC, b.id DESC")
+    Slice<BookingResponse> findResponsesByUserEmail(@Param("email") String email,
+                                                    @Param("status") BookingStatus status,
+                                                    Pageable pageable);
 
     @Modifying
     @Transactional
     @Query("DELETE FROM Booking b WHERE b.event.id = :eventId")
     void deleteByEventId(@Param("eventId") Long eventId);
 
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :confirmed, b.holdExpiresAt = NULL "
+            + "WHERE b.id = :id AND b.status = :held AND b.holdExpiresAt > :now")
+    int confirmHold(@Param("id") Long id,
+                    @Param("now") LocalDateTime now,
+                    @Param("held") BookingStatus held,
+                    @Param("confirmed") BookingStatus confirmed);
+
+    @Query("SELECT b.id AS id, b.event.id AS eventId, b.seats AS seats, b.firstSeat AS firstSeat, "
+            + "b.totalAmount AS totalAmount, b.holdExpiresAt AS holdExpiresAt "
+            + "FROM Booking b WHERE b.status = :status")
+    List<HeldBooking> findHolds(@Param("status") BookingStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b.id AS id, b.event.id AS eventId, b.seats AS seats, b.firstSeat AS firstSeat, "
+            + "b.totalAmount AS totalAmount, b.holdExpiresAt AS holdExpiresAt "
+            + "FROM Booking b WHERE b.id IN :ids AND b.status = :status")
+    List<HeldBooking> findHoldsForUpdate(@Param("ids") Collection<Long> ids,
+                                         @Param("status") BookingStatus status);
+
+    @Query("SELECT b.id AS id, b.event.id AS eventId, b.seats AS seats, b.firstSeat AS firstSeat, "
+            + "b.totalAmount AS totalAmount FROM Booking b WHERE b.id = :id AND b.user.email = :email")
+    Optional<BookingSeats> findSeatsByIdAndUserEmail(@Param("id") Long id, @Param("email") String email);
+
+    @Query("SELECT COUNT(b) FROM Booking b WHERE b.event.id = :eventId AND b.status IN :statuses")
+    long countByEventIdAndStatusIn(@Param("eventId") Long eventId,
+                                   @Param("statuses") Collection<BookingStatus> statuses);
+
+    // Keyset over booking ids, so each chunk of a large event starts where the last one ended
+    @Query("SELECT b.id FROM Booking b WHERE b.event.id = :eventId AND b.status IN :statuses "
+            + "AND b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsByEventId(@Param("eventId") Long eventId,
+                                @Param("statuses") Collection<BookingStatus> statuses,
+                                @Param("afterId") Long afterId,
+                                Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b.id AS id, b.event.id AS eventId, b.seats AS seats, b.firstSeat AS firstSeat, "
+            + "b.totalAmount AS totalAmount FROM Booking b WHERE b.id IN :ids AND b.status IN :statuses")
+    List<BookingSeats> findSeatsForUpdate(@Param("ids") Collection<Long> ids,
+                                          @Param("statuses") Collection<BookingStatus> statuses);
+
+    // Seats held by an event's live bookings, for rebuilding its seat map
+    @Query("SELECT b.id AS id, b.event.id AS eventId, b.seats AS seats, b.firstSeat AS firstSeat, "
+            + "b.totalAmount AS totalAmount FROM Booking b "
+            + "WHERE b.event.id = :eventId AND b.status IN :statuses AND b.firstSeat IS NOT NULL")
+    List<BookingSeats> findSeatedByEventId(@Param("eventId") Long eventId,
+                                           @Param("statuses") Collection<BookingStatus> statuses);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :to WHERE b.id IN :ids AND b.status IN :from")
+    int updateStatusIn(@Param("ids") Collection<Long> ids,
+                       @Param("from") Collection<BookingStatus> from,
+                       @Param("to") BookingStatus to);
+
+    // Per-status totals of a few events, for checking their sales aggregates
+    @Query("SELECT b.event.id AS eventId, b.status AS status, COUNT(b) AS bookings, "
+            + "SUM(b.seats) AS seats, COALESCE(SUM(b.totalAmount), 0) AS amount "
+            + "FROM Booking b WHERE b.event.id IN :eventIds GROUP BY b.event.id, b.status")
+    List<StatusTotals> sumByEventIdsAndStatus(@Param("eventIds") Collection<Long> eventIds);
+
+    interface BookingSeats {
+        Long getId();
+        Long getEventId();
+        Integer getSeats();
+        Integer getFirstSeat();
+        Integer getTotalAmount();
+    }
+
+    interface HeldBooking {
+        Long getId();
+        Long getEventId();
+        Integer getSeats();
+        Integer getFirstSeat();
+        Integer getTotalAmount();
+        LocalDateTime getHoldExpiresAt();
+    }
+
+    interface StatusTotals {
+        Long getEventId();
+        BookingStatus getStatus();
+        Long getBookings();
+        Long getSeats();
+        Long getAmount();
+    }
+
 }
\ No newline at end of file
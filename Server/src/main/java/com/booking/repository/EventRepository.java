@@ -1,12 +1,18 @@
 package com.booking.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.booking.modal.BookingStatus;
 import com.booking.modal.Event;
 
 import jakarta.persistence.LockModeType;
@@ -17,4 +23,71 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT e FROM Event e WHERE e.id = :id")
     Optional<Event> findByIdForUpdate(Long id);
-}
\ No newline at end of file
+
+    // Keyset page ordered by (date, id); only the first pageable.getPageSize() rows are read
+    @Query("SELECT e FROM Event e WHERE "
+            + "(:from IS NULL OR e.date >= :from) "
+            + "AND (:to IS NULL OR e.date <= :to) "
+            + "AND (:location IS NULL OR e.location = :location) "
+            + "AND (:minPrice IS NULL OR e.price >= :minPrice) "
+            + "AND (:maxPrice IS NULL OR e.price <= :maxPrice) "
+            + "AND (:onlyAvailable = false OR e.availableSeats > 0) "
+            + "AND (:afterDate IS NULL OR e.date > :afterDate "
+            + "     OR (e.date = :afterDate AND e.id > :afterId)) "
+            + "ORDER BY e.date, e.id")
+    List<Event> findPage(@Param("from") LocalDateTime from,
+                         @Param("to") LocalDateTime to,
+                         @Param("location") String location,
+                         @Param("minPrice") Integer minPrice,
+                         @Param("maxPrice") Integer maxPrice,
+                         @Param("onlyAvailable") boolean onlyAvailable,
+                         @Param("afterDate") LocalDateTime afterDate,
+                         @Param("afterId") Long afterId,
+                         Pageable pageable);
+
+    // Seats held by active bookings next to the stored counter, for loading the live counters
+    @Query("SELECT e.id AS id, e.totalSeats AS totalSeats, e.availableSeats AS availableSeats, "
+            + "COALESCE(SUM(b.seats), 0) AS bookedSeats FROM Event e "
+            + "LEFT JOIN e.bookings b ON b.status IN :statuses "
+            + "GROUP BY e.id, e.totalSeats, e.availableSeats")
+    List<SeatTally> findAllSeatTallies(@Param("statuses") Collection<BookingStatus> statuses);
+
+    @Query("SELECT e.id AS id, e.totalSeats AS totalSeats, e.availableSeats AS availableSeats, "
+            + "COALESCE(SUM(b.seats), 0) AS bookedSeats FROM Event e "
+            + "LEFT JOIN e.bookings b ON b.status IN :statuses WHERE e.id = :id "
+            + "GROUP BY e.id, e.totalSeats, e.availableSeats")
+    Optional<SeatTally> findSeatTally(@Param("id") Long id,
+                                      @Param("statuses") Collection<BookingStatus> statuses);
+
+    @Query("SELECT e.id AS id, e.availableSeats AS availableSeats FROM Event e WHERE e.id IN :ids")
+    List<SeatCount> findSeatCounts(@Param("ids") Collection<Long> ids);
+
+    // Keyset batch for rebuilding the search index; only the searchable columns are read
+    @Query("SELECT e.id AS id, e.title AS title, e.description AS description, "
+            + "e.location AS location, e.date AS date FROM Event e "
+            + "WHERE e.id > :afterId ORDER BY e.id")
+    List<SearchableEvent> findSearchBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT e.id FROM Event e WHERE e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface SeatCount {
+        Long getId();
+        Integer getAvailableSeats();
+    }
+
+    interface SeatTally {
+        Long getId();
+        Integer getTotalSeats();
+        Integer getAvailableSeats();
+        Long getBookedSeats();
+    }
+
+    interface SearchableEvent {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        String getLocation();
+        LocalDateTime getDate();
+    }
+}
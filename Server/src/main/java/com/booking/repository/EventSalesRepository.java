@@ -0,0 +1,56 @@
+package com.booking.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.booking.modal.EventSales;
+import com.booking.response.EventSalesResponse;
+import com.booking.response.LocationSalesResponse;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface EventSalesRepository extends JpaRepository<EventSales, Long> {
+
+    String SALES_RESPONSE = "SELECT new com.booking.response.EventSalesResponse("
+            + "e.id, e.title, e.location, e.date, e.totalSeats, "
+            + "COALESCE(s.bookedBookings - s.cancelledBookings - s.expiredBookings, 0), "
+            + "COALESCE(s.bookedSeats - s.cancelledSeats - s.expiredSeats, 0), "
+            + "COALESCE(s.cancelledSeats, 0), COALESCE(s.expiredSeats, 0), "
+            + "COALESCE(s.bookedAmount - s.cancelledAmount - s.expiredAmount, 0), "
+            + "COALESCE(s.cancelledAmount, 0)) ";
+
+    // An event without bookings yet has no sales row and reports zeros
+    @Query(SALES_RESPONSE + "FROM Event e LEFT JOIN EventSales s ON s.eventId = e.id WHERE e.id = :eventId")
+    Optional<EventSalesResponse> findResponseByEventId(@Param("eventId") Long eventId);
+
+    @Query(SALES_RESPONSE + "FROM EventSales s JOIN Event e ON e.id = s.eventId "
+            + "ORDER BY s.bookedAmount - s.cancelledAmount - s.expiredAmount DESC, e.id")
+    List<EventSalesResponse> findTopByRevenue(Pageable pageable);
+
+    @Query(SALES_RESPONSE + "FROM EventSales s JOIN Event e ON e.id = s.eventId "
+            + "ORDER BY s.bookedSeats - s.cancelledSeats - s.expiredSeats DESC, e.id")
+    List<EventSalesResponse> findTopBySoldSeats(Pageable pageable);
+
+    @Query("SELECT new com.booking.response.LocationSalesResponse(e.location, COUNT(e), "
+            + "SUM(COALESCE(s.bookedBookings - s.cancelledBookings - s.expiredBookings, 0)), "
+            + "SUM(COALESCE(s.bookedSeats - s.cancelledSeats - s.expiredSeats, 0)), "
+            + "SUM(COALESCE(s.bookedAmount - s.cancelledAmount - s.expiredAmount, 0))) "
+            + "FROM Event e LEFT JOIN EventSales s ON s.eventId = e.id "
+            + "GROUP BY e.location "
+            + "ORDER BY SUM(COALESCE(s.bookedAmount - s.cancelledAmount - s.expiredAmount, 0)) DESC")
+    List<LocationSalesResponse> findLocationTotals();
+
+    // Sorted, so reconciliation locks rows in the same order as the booking writer
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EventSales s WHERE s.eventId IN :eventIds ORDER BY s.eventId")
+    List<EventSales> findForUpdate(@Param("eventIds") Collection<Long> eventIds);
+}
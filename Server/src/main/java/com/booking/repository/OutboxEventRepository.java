@@ -0,0 +1,28 @@
+package com.booking.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.booking.modal.OutboxEvent;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest first; rows that used up their attempts stay behind for inspection
+    @Query("SELECT o FROM OutboxEvent o WHERE o.attempts < :maxAttempts ORDER BY o.id")
+    List<OutboxEvent> findPending(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent o SET o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,29 @@
+package com.booking.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.booking.modal.SalesBucket;
+import com.booking.response.SalesBucketResponse;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface SalesBucketRepository extends JpaRepository<SalesBucket, Long> {
+
+    @Query("SELECT new com.booking.response.SalesBucketResponse("
+            + "b.bucketStart, b.bookings, b.seats, b.amount, b.releasedSeats) "
+            + "FROM SalesBucket b WHERE b.eventId = :eventId AND b.bucketStart >= :from ORDER BY b.bucketStart")
+    List<SalesBucketResponse> findResponses(@Param("eventId") Long eventId, @Param("from") LocalDateTime from);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SalesBucket b WHERE b.eventId = :eventId")
+    void deleteByEventId(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,11 @@
+package com.booking.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.booking.modal.SeatMap;
+
+@Repository
+public interface SeatMapRepository extends JpaRepository<SeatMap, Long> {
+
+}
@@ -7,6 +7,7 @@ import com.booking.modal.BookingStatus;
 
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 public class BookingRequest {
 
@@ -22,6 +23,10 @@ public class BookingRequest {
     
     private BookingStatus status; 
 
+    // Reserved seating only: limits best-available seats to this section
+    @Size(max = 10)
+    private String section;
+
 	public Long getEventId() {
 		return eventId;
 	}
@@ -55,6 +60,14 @@ public class BookingRequest {
 		this.status = status;
 	}
 
+	public String getSection() {
+		return section;
+	}
+
+	public void setSection(String section) {
+		this.section = section;
+	}
+
 	public BookingRequest() {
 		super();
 	}
@@ -0,0 +1,33 @@
+package com.booking.request;
+
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class BulkCancelRequest {
+
+	@NotEmpty
+	@Size(max = 100000)
+	private List<@NotNull Long> bookingIds;
+
+	public List<Long> getBookingIds() {
+		return bookingIds;
+	}
+
+	public void setBookingIds(List<Long> bookingIds) {
+		this.bookingIds = bookingIds;
+	}
+
+	public BulkCancelRequest() {
+		super();
+	}
+
+	public BulkCancelRequest(@NotEmpty @Size(max = 100000) List<@NotNull Long> bookingIds) {
+		super();
+		this.bookingIds = bookingIds;
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.booking.request;
+
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public class EventPageRequest {
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime from;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime to;
+
+	private String location;
+
+	private Integer minPrice;
+
+	private Integer maxPrice;
+
+	private boolean available;
+
+	private String cursor;
+
+	@Min(1)
+	@Max(100)
+	private int limit = 20;
+
+	public LocalDateTime getFrom() {
+		return from;
+	}
+
+	public void setFrom(LocalDateTime from) {
+		this.from = from;
+	}
+
+	public LocalDateTime getTo() {
+		return to;
+	}
+
+	public void setTo(LocalDateTime to) {
+		this.to = to;
+	}
+
+	public String getLocation() {
+		return location;
+	}
+
+	public void setLocation(String location) {
+		this.location = location;
+	}
+
+	public Integer getMinPrice() {
+		return minPrice;
+	}
+
+	public void setMinPrice(Integer minPrice) {
+		this.minPrice = minPrice;
+	}
+
+	public Integer getMaxPrice() {
+		return maxPrice;
+	}
+
+	public void setMaxPrice(Integer maxPrice) {
+		this.maxPrice = maxPrice;
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	public void setAvailable(boolean available) {
+		this.available = available;
+	}
+
+	public String getCursor() {
+		return cursor;
+	}
+
+	public void setCursor(String cursor) {
+		this.cursor = cursor;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public void setLimit(int limit) {
+		this.limit = limit;
+	}
+
+	public EventPageRequest() {
+		super();
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.booking.request;
+
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class SeatMapRequest {
+
+	// Best section first; rows within a section are numbered from the front
+	@NotEmpty
+	@Size(max = 200)
+	private List<@Valid SeatSectionRequest> sections;
+
+	public List<SeatSectionRequest> getSections() {
+		return sections;
+	}
+
+	public void setSections(List<SeatSectionRequest> sections) {
+		this.sections = sections;
+	}
+
+	public SeatMapRequest() {
+		super();
+	}
+
+	public SeatMapRequest(List<SeatSectionRequest> sections) {
+		super();
+		this.sections = sections;
+	}
+
+}
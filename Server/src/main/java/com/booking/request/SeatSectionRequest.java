@@ -0,0 +1,60 @@
+package com.booking.request;
+
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+public class SeatSectionRequest {
+
+	@NotNull
+	@Pattern(regexp = "[A-Za-z0-9]{1,10}", message = "Section name must be 1 to 10 letters or digits")
+	private String name;
+
+	@NotNull
+	@Positive
+	@Max(500)
+	private Integer rows;
+
+	@NotNull
+	@Positive
+	@Max(500)
+	private Integer seatsPerRow;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Integer getRows() {
+		return rows;
+	}
+
+	public void setRows(Integer rows) {
+		this.rows = rows;
+	}
+
+	public Integer getSeatsPerRow() {
+		return seatsPerRow;
+	}
+
+	public void setSeatsPerRow(Integer seatsPerRow) {
+		this.seatsPerRow = seatsPerRow;
+	}
+
+	public SeatSectionRequest() {
+		super();
+	}
+
+	public SeatSectionRequest(String name, Integer rows, Integer seatsPerRow) {
+		super();
+		this.name = name;
+		this.rows = rows;
+		this.seatsPerRow = seatsPerRow;
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.booking.response;
+
+import java.time.LocalDateTime;
+
+import com.booking.modal.BookingStatus;
+
+
+public class BookingExportRow {
+
+	private Long bookingId;
+	private String userName;
+	private String userEmail;
+	private Integer seats;
+	private Integer totalAmount;
+	private BookingStatus status;
+	private LocalDateTime bookingDate;
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public void setBookingId(Long bookingId) {
+		this.bookingId = bookingId;
+	}
+
+	public String getUserName() {
+		return userName;
+	}
+
+	public void setUserName(String userName) {
+		this.userName = userName;
+	}
+
+	public String getUserEmail() {
+		return userEmail;
+	}
+
+	public void setUserEmail(String userEmail) {
+		this.userEmail = userEmail;
+	}
+
+	public Integer getSeats() {
+		return seats;
+	}
+
+	public void setSeats(Integer seats) {
+		this.seats = seats;
+	}
+
+	public Integer getTotalAmount() {
+		return totalAmount;
+	}
+
+	public void setTotalAmount(Integer totalAmount) {
+		this.totalAmount = totalAmount;
+	}
+
+	public BookingStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(BookingStatus status) {
+		this.status = status;
+	}
+
+	public LocalDateTime getBookingDate() {
+		return bookingDate;
+	}
+
+	public void setBookingDate(LocalDateTime bookingDate) {
+		this.bookingDate = bookingDate;
+	}
+
+	public BookingExportRow() {
+		super();
+	}
+
+	public BookingExportRow(Long bookingId, String userName, String userEmail, Integer seats, Integer totalAmount,
+			BookingStatus status, LocalDateTime bookingDate) {
+		super();
+		this.bookingId = bookingId;
+		this.userName = userName;
+		this.userEmail = userEmail;
+		this.seats = seats;
+		this.totalAmount = totalAmount;
+		this.status = status;
+		this.bookingDate = bookingDate;
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.booking.response;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.booking.modal.BookingStatus;
 
@@ -16,6 +17,9 @@ public class BookingResponse {
 	private String eventLocation;
 	private Integer totalAmount;
 	private LocalDateTime bookingTime;
+	private LocalDateTime holdExpiresAt;
+	// Section-row-seat, e.g. A-3-12; only for reserved-seating events
+	private List<String> seatNumbers;
 	
 	public BookingResponse() {
 
@@ -93,6 +97,22 @@ public class BookingResponse {
 		this.bookingTime = bookingTime;
 	}
 
+	public LocalDateTime getHoldExpiresAt() {
+		return holdExpiresAt;
+	}
+
+	public void setHoldExpiresAt(LocalDateTime holdExpiresAt) {
+		this.holdExpiresAt = holdExpiresAt;
+	}
+
+	public List<String> getSeatNumbers() {
+		return seatNumbers;
+	}
+
+	public void setSeatNumbers(List<String> seatNumbers) {
+		this.seatNumbers = seatNumbers;
+	}
+
 	public BookingResponse(Long bookingId, String eventTitle, Integer seatsBooked, String message, BookingStatus status,
 			LocalDateTime eventDate, String eventLocation, Integer totalAmount, LocalDateTime bookingTime) {
 		super();
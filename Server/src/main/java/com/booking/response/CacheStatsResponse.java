@@ -0,0 +1,76 @@
+package com.booking.response;
+
+
+public class CacheStatsResponse {
+
+	private String name;
+	private long size;
+	private long hitCount;
+	private long missCount;
+	private double hitRate;
+	private long evictionCount;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public void setSize(long size) {
+		this.size = size;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public void setHitCount(long hitCount) {
+		this.hitCount = hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public void setMissCount(long missCount) {
+		this.missCount = missCount;
+	}
+
+	public double getHitRate() {
+		return hitRate;
+	}
+
+	public void setHitRate(double hitRate) {
+		this.hitRate = hitRate;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public void setEvictionCount(long evictionCount) {
+		this.evictionCount = evictionCount;
+	}
+
+	public CacheStatsResponse() {
+		super();
+	}
+
+	public CacheStatsResponse(String name, long size, long hitCount, long missCount, double hitRate,
+			long evictionCount) {
+		super();
+		this.name = name;
+		this.size = size;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.hitRate = hitRate;
+		this.evictionCount = evictionCount;
+	}
+
+}
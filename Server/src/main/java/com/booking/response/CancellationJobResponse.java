@@ -0,0 +1,108 @@
+package com.booking.response;
+
+import java.time.LocalDateTime;
+
+
+public class CancellationJobResponse {
+
+	private String jobId;
+	private String state;
+	private long total;
+	private long cancelled;
+	private long skipped;
+	private long seatsReleased;
+	private LocalDateTime submittedAt;
+	private LocalDateTime finishedAt;
+	private String error;
+
+	public String getJobId() {
+		return jobId;
+	}
+
+	public void setJobId(String jobId) {
+		this.jobId = jobId;
+	}
+
+	public String getState() {
+		return state;
+	}
+
+	public void setState(String state) {
+		this.state = state;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public void setTotal(long total) {
+		this.total = total;
+	}
+
+	public long getCancelled() {
+		return cancelled;
+	}
+
+	public void setCancelled(long cancelled) {
+		this.cancelled = cancelled;
+	}
+
+	public long getSkipped() {
+		return skipped;
+	}
+
+	public void setSkipped(long skipped) {
+		this.skipped = skipped;
+	}
+
+	public long getSeatsReleased() {
+		return seatsReleased;
+	}
+
+	public void setSeatsReleased(long seatsReleased) {
+		this.seatsReleased = seatsReleased;
+	}
+
+	public LocalDateTime getSubmittedAt() {
+		return submittedAt;
+	}
+
+	public void setSubmittedAt(LocalDateTime submittedAt) {
+		this.submittedAt = submittedAt;
+	}
+
+	public LocalDateTime getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(LocalDateTime finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+
+	public CancellationJobResponse() {
+		super();
+	}
+
+	public CancellationJobResponse(String jobId, String state, long total, long cancelled, long skipped,
+			long seatsReleased, LocalDateTime submittedAt, LocalDateTime finishedAt, String error) {
+		super();
+		this.jobId = jobId;
+		this.state = state;
+		this.total = total;
+		this.cancelled = cancelled;
+		this.skipped = skipped;
+		this.seatsReleased = seatsReleased;
+		this.submittedAt = submittedAt;
+		this.finishedAt = finishedAt;
+		this.error = error;
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.booking.response;
+
+
+/**
+ * The event listing already encoded as JSON, with a gzip copy and a strong
+ * ETag derived from the JSON bytes.
+ */
+public class EventCatalogPayload {
+
+	private final byte[] json;
+	private final byte[] gzip;
+	private final String etag;
+
+	public EventCatalogPayload(byte[] json, byte[] gzip, String etag) {
+		super();
+		this.json = json;
+		this.gzip = gzip;
+		this.etag = etag;
+	}
+
+	public byte[] getJson() {
+		return json;
+	}
+
+	public byte[] getGzip() {
+		return gzip;
+	}
+
+	public String getEtag() {
+		return etag;
+	}
+
+}
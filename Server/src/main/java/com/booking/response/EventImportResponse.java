@@ -0,0 +1,89 @@
+package com.booking.response;
+
+import java.util.List;
+
+
+public class EventImportResponse {
+
+	private long rowsRead;
+	private long imported;
+	private long failed;
+	private long durationMs;
+	private double rowsPerSecond;
+	private List<ImportRowError> errors;
+	// True when more rows failed than are listed in errors
+	private boolean errorsTruncated;
+
+	public long getRowsRead() {
+		return rowsRead;
+	}
+
+	public void setRowsRead(long rowsRead) {
+		this.rowsRead = rowsRead;
+	}
+
+	public long getImported() {
+		return imported;
+	}
+
+	public void setImported(long imported) {
+		this.imported = imported;
+	}
+
+	public long getFailed() {
+		return failed;
+	}
+
+	public void setFailed(long failed) {
+		this.failed = failed;
+	}
+
+	public long getDurationMs() {
+		return durationMs;
+	}
+
+	public void setDurationMs(long durationMs) {
+		this.durationMs = durationMs;
+	}
+
+	public double getRowsPerSecond() {
+		return rowsPerSecond;
+	}
+
+	public void setRowsPerSecond(double rowsPerSecond) {
+		this.rowsPerSecond = rowsPerSecond;
+	}
+
+	public List<ImportRowError> getErrors() {
+		return errors;
+	}
+
+	public void setErrors(List<ImportRowError> errors) {
+		this.errors = errors;
+	}
+
+	public boolean isErrorsTruncated() {
+		return errorsTruncated;
+	}
+
+	public void setErrorsTruncated(boolean errorsTruncated) {
+		this.errorsTruncated = errorsTruncated;
+	}
+
+	public EventImportResponse() {
+		super();
+	}
+
+	public EventImportResponse(long rowsRead, long imported, long failed, long durationMs, double rowsPerSecond,
+			List<ImportRowError> errors, boolean errorsTruncated) {
+		super();
+		this.rowsRead = rowsRead;
+		this.imported = imported;
+		this.failed = failed;
+		this.durationMs = durationMs;
+		this.rowsPerSecond = rowsPerSecond;
+		this.errors = errors;
+		this.errorsTruncated = errorsTruncated;
+	}
+
+}
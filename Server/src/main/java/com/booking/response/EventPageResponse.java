@@ -0,0 +1,36 @@
+package com.booking.response;
+
+import java.util.List;
+
+public class EventPageResponse {
+
+	private List<EventResponse> events;
+	private String nextCursor;
+
+	public List<EventResponse> getEvents() {
+		return events;
+	}
+
+	public void setEvents(List<EventResponse> events) {
+		this.events = events;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	public EventPageResponse() {
+		super();
+	}
+
+	public EventPageResponse(List<EventResponse> events, String nextCursor) {
+		super();
+		this.events = events;
+		this.nextCursor = nextCursor;
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.booking.response;
+
+import java.time.LocalDateTime;
+
+// Bookings, seats and revenue still sold, held bookings included
+public class EventSalesResponse {
+
+	private Long eventId;
+	private String title;
+	private String location;
+	private LocalDateTime date;
+	private Integer totalSeats;
+	private Long bookings;
+	private Long soldSeats;
+	private Long cancelledSeats;
+	private Long expiredSeats;
+	private Long revenue;
+	private Long refunded;
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getLocation() {
+		return location;
+	}
+
+	public void setLocation(String location) {
+		this.location = location;
+	}
+
+	public LocalDateTime getDate() {
+		return date;
+	}
+
+	public void setDate(LocalDateTime date) {
+		this.date = date;
+	}
+
+	public Integer getTotalSeats() {
+		return totalSeats;
+	}
+
+	public void setTotalSeats(Integer totalSeats) {
+		this.totalSeats = totalSeats;
+	}
+
+	public Long getBookings() {
+		return bookings;
+	}
+
+	public void setBookings(Long bookings) {
+		this.bookings = bookings;
+	}
+
+	public Long getSoldSeats() {
+		return soldSeats;
+	}
+
+	public void setSoldSeats(Long soldSeats) {
+		this.soldSeats = soldSeats;
+	}
+
+	public Long getCancelledSeats() {
+		return cancelledSeats;
+	}
+
+	public void setCancelledSeats(Long cancelledSeats) {
+		this.cancelledSeats = cancelledSeats;
+	}
+
+	public Long getExpiredSeats() {
+		return expiredSeats;
+	}
+
+	public void setExpiredSeats(Long expiredSeats) {
+		this.expiredSeats = expiredSeats;
+	}
+
+	public Long getRevenue() {
+		return revenue;
+	}
+
+	public void setRevenue(Long revenue) {
+		this.revenue = revenue;
+	}
+
+	public Long getRefunded() {
+		return refunded;
+	}
+
+	public void setRefunded(Long refunded) {
+		this.refunded = refunded;
+	}
+
+	public EventSalesResponse() {
+		super();
+	}
+
+	public EventSalesResponse(Long eventId, String title, String location, LocalDateTime date,
+			Integer totalSeats, Long bookings, Long soldSeats, Long cancelledSeats,
+			Long expiredSeats, Long revenue, Long refunded) {
+		super();
+		this.eventId = eventId;
+		this.title = title;
+		this.location = location;
+		this.date = date;
+		this.totalSeats = totalSeats;
+		this.bookings = bookings;
+		this.soldSeats = soldSeats;
+		this.cancelledSeats = cancelledSeats;
+		this.expiredSeats = expiredSeats;
+		this.revenue = revenue;
+		this.refunded = refunded;
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.booking.response;
+
+
+public class ImportRowError {
+
+	private long line;
+	private String message;
+
+	public long getLine() {
+		return line;
+	}
+
+	public void setLine(long line) {
+		this.line = line;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public void setMessage(String message) {
+		this.message = message;
+	}
+
+	public ImportRowError() {
+		super();
+	}
+
+	public ImportRowError(long line, String message) {
+		super();
+		this.line = line;
+		this.message = message;
+	}
+
+}
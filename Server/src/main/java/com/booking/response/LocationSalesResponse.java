@@ -0,0 +1,65 @@
+package com.booking.response;
+
+public class LocationSalesResponse {
+
+	private String location;
+	private Long events;
+	private Long bookings;
+	private Long soldSeats;
+	private Long revenue;
+
+	public String getLocation() {
+		return location;
+	}
+
+	public void setLocation(String location) {
+		this.location = location;
+	}
+
+	public Long getEvents() {
+		return events;
+	}
+
+	public void setEvents(Long events) {
+		this.events = events;
+	}
+
+	public Long getBookings() {
+		return bookings;
+	}
+
+	public void setBookings(Long bookings) {
+		this.bookings = bookings;
+	}
+
+	public Long getSoldSeats() {
+		return soldSeats;
+	}
+
+	public void setSoldSeats(Long soldSeats) {
+		this.soldSeats = soldSeats;
+	}
+
+	public Long getRevenue() {
+		return revenue;
+	}
+
+	public void setRevenue(Long revenue) {
+		this.revenue = revenue;
+	}
+
+	public LocationSalesResponse() {
+		super();
+	}
+
+	public LocationSalesResponse(String location, Long events, Long bookings, Long soldSeats,
+			Long revenue) {
+		super();
+		this.location = location;
+		this.events = events;
+		this.bookings = bookings;
+		this.soldSeats = soldSeats;
+		this.revenue = revenue;
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.booking.response;
+
+
+public class QueueStatusResponse {
+
+	private String ticketId;
+	private Long eventId;
+	private long position;
+	private boolean admitted;
+	private long estimatedWaitSeconds;
+
+	public String getTicketId() {
+		return ticketId;
+	}
+
+	public void setTicketId(String ticketId) {
+		this.ticketId = ticketId;
+	}
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public long getPosition() {
+		return position;
+	}
+
+	public void setPosition(long position) {
+		this.position = position;
+	}
+
+	public boolean isAdmitted() {
+		return admitted;
+	}
+
+	public void setAdmitted(boolean admitted) {
+		this.admitted = admitted;
+	}
+
+	public long getEstimatedWaitSeconds() {
+		return estimatedWaitSeconds;
+	}
+
+	public void setEstimatedWaitSeconds(long estimatedWaitSeconds) {
+		this.estimatedWaitSeconds = estimatedWaitSeconds;
+	}
+
+	public QueueStatusResponse() {
+		super();
+	}
+
+	public QueueStatusResponse(String ticketId, Long eventId, long position, boolean admitted,
+			long estimatedWaitSeconds) {
+		super();
+		this.ticketId = ticketId;
+		this.eventId = eventId;
+		this.position = position;
+		this.admitted = admitted;
+		this.estimatedWaitSeconds = estimatedWaitSeconds;
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.booking.response;
+
+import java.time.LocalDateTime;
+
+public class SalesBucketResponse {
+
+	private LocalDateTime bucketStart;
+	private Long bookings;
+	private Long seats;
+	private Long amount;
+	private Long releasedSeats;
+
+	public LocalDateTime getBucketStart() {
+		return bucketStart;
+	}
+
+	public void setBucketStart(LocalDateTime bucketStart) {
+		this.bucketStart = bucketStart;
+	}
+
+	public Long getBookings() {
+		return bookings;
+	}
+
+	public void setBookings(Long bookings) {
+		this.bookings = bookings;
+	}
+
+	public Long getSeats() {
+		return seats;
+	}
+
+	public void setSeats(Long seats) {
+		this.seats = seats;
+	}
+
+	public Long getAmount() {
+		return amount;
+	}
+
+	public void setAmount(Long amount) {
+		this.amount = amount;
+	}
+
+	public Long getReleasedSeats() {
+		return releasedSeats;
+	}
+
+	public void setReleasedSeats(Long releasedSeats) {
+		this.releasedSeats = releasedSeats;
+	}
+
+	public SalesBucketResponse() {
+		super();
+	}
+
+	public SalesBucketResponse(LocalDateTime bucketStart, Long bookings, Long seats, Long amount,
+			Long releasedSeats) {
+		super();
+		this.bucketStart = bucketStart;
+		this.bookings = bookings;
+		this.seats = seats;
+		this.amount = amount;
+		this.releasedSeats = releasedSeats;
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.booking.response;
+
+public class SalesReconciliationResponse {
+
+	private long eventsChecked;
+	private long eventsCorrected;
+
+	public long getEventsChecked() {
+		return eventsChecked;
+	}
+
+	public void setEventsChecked(long eventsChecked) {
+		this.eventsChecked = eventsChecked;
+	}
+
+	public long getEventsCorrected() {
+		return eventsCorrected;
+	}
+
+	public void setEventsCorrected(long eventsCorrected) {
+		this.eventsCorrected = eventsCorrected;
+	}
+
+	public SalesReconciliationResponse() {
+		super();
+	}
+
+	public SalesReconciliationResponse(long eventsChecked, long eventsCorrected) {
+		super();
+		this.eventsChecked = eventsChecked;
+		this.eventsCorrected = eventsCorrected;
+	}
+
+}
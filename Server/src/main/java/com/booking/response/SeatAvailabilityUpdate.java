@@ -0,0 +1,45 @@
+package com.booking.response;
+
+
+public class SeatAvailabilityUpdate {
+
+	private Long eventId;
+	private int availableSeats;
+	private int delta;
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public int getAvailableSeats() {
+		return availableSeats;
+	}
+
+	public void setAvailableSeats(int availableSeats) {
+		this.availableSeats = availableSeats;
+	}
+
+	public int getDelta() {
+		return delta;
+	}
+
+	public void setDelta(int delta) {
+		this.delta = delta;
+	}
+
+	public SeatAvailabilityUpdate() {
+		super();
+	}
+
+	public SeatAvailabilityUpdate(Long eventId, int availableSeats, int delta) {
+		super();
+		this.eventId = eventId;
+		this.availableSeats = availableSeats;
+		this.delta = delta;
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.booking.response;
+
+import java.util.List;
+
+public class SeatMapResponse {
+
+	private Long eventId;
+	private int totalSeats;
+	private int availableSeats;
+	private List<SeatSection> sections;
+	// Base64, one bit per seat: seat i is taken when bit i % 8 of byte i / 8 is set
+	private String taken;
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public int getTotalSeats() {
+		return totalSeats;
+	}
+
+	public void setTotalSeats(int totalSeats) {
+		this.totalSeats = totalSeats;
+	}
+
+	public int getAvailableSeats() {
+		return availableSeats;
+	}
+
+	public void setAvailableSeats(int availableSeats) {
+		this.availableSeats = availableSeats;
+	}
+
+	public List<SeatSection> getSections() {
+		return sections;
+	}
+
+	public void setSections(List<SeatSection> sections) {
+		this.sections = sections;
+	}
+
+	public String getTaken() {
+		return taken;
+	}
+
+	public void setTaken(String taken) {
+		this.taken = taken;
+	}
+
+	public SeatMapResponse() {
+		super();
+	}
+
+	public SeatMapResponse(Long eventId, int totalSeats, int availableSeats, List<SeatSection> sections,
+			String taken) {
+		super();
+		this.eventId = eventId;
+		this.totalSeats = totalSeats;
+		this.availableSeats = availableSeats;
+		this.sections = sections;
+		this.taken = taken;
+	}
+
+}
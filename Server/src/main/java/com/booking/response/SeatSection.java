@@ -0,0 +1,55 @@
+package com.booking.response;
+
+public class SeatSection {
+
+	private String name;
+	private int rows;
+	private int seatsPerRow;
+	// Index of the section's first seat in the taken bitmap
+	private int firstSeat;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public void setRows(int rows) {
+		this.rows = rows;
+	}
+
+	public int getSeatsPerRow() {
+		return seatsPerRow;
+	}
+
+	public void setSeatsPerRow(int seatsPerRow) {
+		this.seatsPerRow = seatsPerRow;
+	}
+
+	public int getFirstSeat() {
+		return firstSeat;
+	}
+
+	public void setFirstSeat(int firstSeat) {
+		this.firstSeat = firstSeat;
+	}
+
+	public SeatSection() {
+		super();
+	}
+
+	public SeatSection(String name, int rows, int seatsPerRow, int firstSeat) {
+		super();
+		this.name = name;
+		this.rows = rows;
+		this.seatsPerRow = seatsPerRow;
+		this.firstSeat = firstSeat;
+	}
+
+}
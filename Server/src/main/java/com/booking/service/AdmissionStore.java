@@ -0,0 +1,33 @@
+package com.booking.service;
+
+/**
+ * Waiting room state. The in-memory store is enough for a single server;
+ * a shared implementation (e.g. Redis) can replace it when the API runs on
+ * several nodes.
+ */
+public interface AdmissionStore {
+
+    /**
+     * Returns the user's ticket for the event, issuing the next position if
+     * the user is not queued yet.
+     */
+    QueueTicket issue(Long eventId, String userEmail, long now);
+
+    QueueTicket find(String ticketId);
+
+    void remove(QueueTicket ticket);
+
+    /**
+     * Advances the event's admission watermark by the time passed since the
+     * last call and returns the highest admitted position. The watermark
+     * never runs ahead of the last issued position, so idle time does not
+     * build up a burst allowance.
+     */
+    long admittedUpTo(Long eventId, double defaultRatePerSecond, long now);
+
+    void setRate(Long eventId, double ratePerSecond);
+
+    double getRate(Long eventId, double defaultRatePerSecond);
+
+    int purgeIdle(long idleSince);
+}
@@ -1,5 +1,7 @@
 package com.booking.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.booking.request.AuthRequest;
 import com.booking.request.RegisterRequest;
 import com.booking.response.AuthResponse;
@@ -7,5 +9,8 @@ import com.booking.response.AuthResponse;
 public interface AuthService {
 
 	  public void register(RegisterRequest request);
+	  public CompletableFuture<Void> registerAsync(RegisterRequest request);
 	  public AuthResponse login(AuthRequest request);
+	  public CompletableFuture<AuthResponse> loginAsync(AuthRequest request);
+	  public void logout(String token);
 }
@@ -1,5 +1,10 @@
 package com.booking.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import io.jsonwebtoken.Claims;
+
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -10,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.booking.config.JwtUtil;
+import com.booking.config.TokenDenylist;
 import com.booking.modal.User;
 import com.booking.repository.UserRepository;
 import com.booking.request.AuthRequest;
@@ -17,41 +23,61 @@ import com.booking.request.RegisterRequest;
 import com.booking.response.AuthResponse;
 
 @Service
-@Transactional
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final TokenDenylist tokenDenylist;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     public AuthServiceImpl(UserRepository userRepository,
                            PasswordEncoder passwordEncoder,
                            JwtUtil jwtUtil,
-                           AuthenticationManager authenticationManager) {
+                           AuthenticationManager authenticationManager,
+                           TokenDenylist tokenDenylist,
+                           PasswordHashingExecutor passwordHashingExecutor) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
         this.authenticationManager = authenticationManager;
+        this.tokenDenylist = tokenDenylist;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     @Override
     public void register(RegisterRequest request) {
+        try {
+            registerAsync(request).join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    // The password is hashed on the hashing pool, like a login's check
+    @Override
+    public CompletableFuture<Void> registerAsync(RegisterRequest request) {
 
         if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new IllegalStateException("Email already registered");
+            return CompletableFuture.failedFuture(new IllegalStateException("Email already registered"));
         }
 
-        User user = new User();
-        user.setName(request.getName());
-        user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(request.getPassword()))
+                .thenAccept(password -> {
+                    User user = new User();
+                    user.setName(request.getName());
+                    user.setEmail(request.getEmail());
+                    user.setPassword(password);
 
-        user.setRole(User.Role.USER);
+                    user.setRole(User.Role.USER);
 
-        userRepository.save(user);
+                    userRepository.save(user);
+                });
     }
 
+    // Runs without a transaction, so no connection is held for the BCrypt
+    // check; the user lookup and any rehash have their own short ones
     @Override
     public AuthResponse login(AuthRequest request) {
 
@@ -83,4 +109,19 @@ public class AuthServiceImpl implements AuthService {
             throw new BadCredentialsException("Invalid email or password");
         }
     }
+
+    @Override
+    public CompletableFuture<AuthResponse> loginAsync(AuthRequest request) {
+        return passwordHashingExecutor.submit(() -> login(request));
+    }
+
+    @Override
+    @Transactional
+    public void logout(String token) {
+        Claims claims = jwtUtil.parseVerified(token);
+        if (claims == null) {
+            throw new BadCredentialsException("Invalid token");
+        }
+        tokenDenylist.revoke(claims);
+    }
 }
\ No newline at end of file
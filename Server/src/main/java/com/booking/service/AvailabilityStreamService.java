@@ -0,0 +1,13 @@
+package com.booking.service;
+
+import java.util.List;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface AvailabilityStreamService {
+
+	SseEmitter subscribe(List<Long> eventIds);
+
+	int getSubscriberCount();
+
+}
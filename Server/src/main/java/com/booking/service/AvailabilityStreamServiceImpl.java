@@ -0,0 +1,314 @@
+package com.booking.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.booking.repository.EventRepository;
+import com.booking.response.SeatAvailabilityUpdate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes seat counts to subscribed clients over server-sent events. Changes
+ * are not sent as they happen: {@link SeatInventory} marks the event as
+ * changed and every push interval each changed event gets one message with
+ * its current count. A sell-out of thousands of bookings therefore costs
+ * subscribers at most one message per event per interval.
+ *
+ * Each message is serialised once and the same frame is handed to every
+ * subscriber of the event. A subscriber keeps only the latest frame per
+ * event until a fan-out thread writes it out, so a client that falls behind
+ * skips counts instead of queueing them, and the pool's queue holds at
+ * most one entry per chunk of subscribers. A client whose write has not
+ * finished within {@code booking.availability.send-timeout-ms} is dropped.
+ */
+@Service
+public class AvailabilityStreamServiceImpl implements AvailabilityStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityStreamServiceImpl.class);
+
+    private static final int MAX_EVENTS_PER_SUBSCRIPTION = 50;
+    private static final int FAN_OUT_CHUNK = 1000;
+    // Pending frame key of the keepalive comment; event ids are positive
+    private static final Long HEARTBEAT = 0L;
+
+    private final SeatInventory seatInventory;
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final long streamTimeoutMillis;
+    private final int maxSubscribers;
+    private final long sendTimeoutNanos;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> lastPublished = new ConcurrentHashMap<>();
+    private final Set<Subscriber> connected = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectedCount = new AtomicInteger();
+    // Subscribers with frames waiting that the pool had no room for
+    private final Set<Subscriber> behind = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor fanOut;
+
+    public AvailabilityStreamServiceImpl(SeatInventory seatInventory,
+                                         EventRepository eventRepository,
+                                         ObjectMapper objectMapper,
+                                         @Value("${booking.availability.stream-timeout-minutes:30}") long streamTimeoutMinutes,
+                                         @Value("${booking.availability.max-subscribers:50000}") int maxSubscribers,
+                                         @Value("${booking.availability.fan-out-threads:4}") int fanOutThreads,
+                                         @Value("${booking.availability.fan-out-queue:1000}") int fanOutQueue,
+                                         @Value("${booking.availability.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.seatInventory = seatInventory;
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.streamTimeoutMillis = TimeUnit.MINUTES.toMillis(streamTimeoutMinutes);
+        this.maxSubscribers = maxSubscribers;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.fanOut = new ThreadPoolExecutor(fanOutThreads, fanOutThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanOutQueue), runnable -> {
+                    Thread thread = new Thread(runnable, "availability-push-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdownNow();
+        connected.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    @Override
+    public SseEmitter subscribe(List<Long> eventIds) {
+        Set<Long> ids = new LinkedHashSet<>(eventIds);
+        if (ids.isEmpty() || ids.size() > MAX_EVENTS_PER_SUBSCRIPTION)
+            throw new IllegalArgumentException(
+                    "Subscribe to between 1 and " + MAX_EVENTS_PER_SUBSCRIPTION + " events");
+
+        // Also checks that every event exists before anything is registered. The stream
+        // is public, so ids the inventory has not loaded cost one query between them
+        Map<Long, Integer> stored = new HashMap<>();
+        List<Long> unloaded = new ArrayList<>();
+        for (Long eventId : ids) {
+            if (eventId == null || eventId <= 0)
+                throw new IllegalArgumentException("Invalid event id " + eventId);
+            if (seatInventory.getAvailableOrDefault(eventId, -1) < 0)
+                unloaded.add(eventId);
+        }
+        if (!unloaded.isEmpty()) {
+            eventRepository.findSeatCounts(unloaded)
+                    .forEach(count -> stored.put(count.getId(), count.getAvailableSeats()));
+        }
+
+        List<SeatAvailabilityUpdate> snapshot = new ArrayList<>(ids.size());
+        for (Long eventId : ids) {
+            int available = seatInventory.getAvailableOrDefault(eventId, stored.getOrDefault(eventId, -1));
+            if (available < 0)
+                throw new IllegalArgumentException("Event not found: " + eventId);
+            lastPublished.putIfAbsent(eventId, available);
+            snapshot.add(new SeatAvailabilityUpdate(eventId, available, 0));
+        }
+
+        if (connectedCount.incrementAndGet() > maxSubscribers) {
+            connectedCount.decrementAndGet();
+            throw new IllegalStateException("Too many availability subscribers");
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(streamTimeoutMillis), ids);
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(ex -> unsubscribe(subscriber));
+        connected.add(subscriber);
+        for (Long eventId : ids) {
+            subscribers.compute(eventId, (id, watching) -> {
+                Set<Subscriber> set = watching != null ? watching : ConcurrentHashMap.newKeySet();
+                set.add(subscriber);
+                return set;
+            });
+        }
+
+        // Through the subscriber's pending frames, so a newer count published meanwhile wins
+        for (SeatAvailabilityUpdate update : snapshot) {
+            subscriber.pending.putIfAbsent(update.getEventId(), frame(update));
+        }
+        if (subscriber.queued.compareAndSet(false, true))
+            submit(List.of(subscriber));
+        return subscriber.emitter;
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return connectedCount.get();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.availability.push-interval-ms:250}")
+    public void publishChanges() {
+        if (!behind.isEmpty()) {
+            List<Subscriber> retry = new ArrayList<>(behind);
+            behind.removeAll(retry);
+            submit(retry);
+        }
+
+        for (Long eventId : seatInventory.drainChanged()) {
+            int available = seatInventory.getAvailableOrDefault(eventId, -1);
+            if (available < 0) {
+                lastPublished.remove(eventId);
+                continue;
+            }
+
+            Integer previous = lastPublished.put(eventId, available);
+            if (previous != null && previous == available)
+                continue;
+
+            Set<Subscriber> watching = subscribers.get(eventId);
+            if (watching == null || watching.isEmpty())
+                continue;
+
+            int delta = previous == null ? 0 : available - previous;
+            fanOut(watching, eventId, frame(new SeatAvailabilityUpdate(eventId, available, delta)));
+        }
+    }
+
+    // Proxies drop idle connections, and a failed write is how dead clients are found
+    @Scheduled(fixedDelayString = "${booking.availability.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (!connected.isEmpty())
+            fanOut(connected, HEARTBEAT, SseEmitter.event().comment("keepalive").build());
+    }
+
+    // A write that never returns holds a fan-out thread until the container's write
+    // timeout; its subscriber is dropped now so nothing more is queued for it
+    @Scheduled(fixedDelayString = "${booking.availability.send-check-ms:1000}")
+    public void dropStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : connected) {
+            long started = subscriber.sendStarted;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                subscriber.stalled = true;
+                unsubscribe(subscriber);
+                log.debug("Dropped availability subscriber whose write did not finish in time");
+            }
+        }
+    }
+
+    // Replaces any frame of the same key the subscriber has not been sent yet
+    private void fanOut(Set<Subscriber> targets, Long key, Set<SseEmitter.DataWithMediaType> frame) {
+        List<Subscriber> batch = new ArrayList<>(Math.min(targets.size(), FAN_OUT_CHUNK));
+        for (Subscriber subscriber : targets) {
+            subscriber.pending.put(key, frame);
+            if (!subscriber.queued.compareAndSet(false, true))
+                continue;
+            batch.add(subscriber);
+            if (batch.size() == FAN_OUT_CHUNK) {
+                submit(batch);
+                batch = new ArrayList<>(FAN_OUT_CHUNK);
+            }
+        }
+        if (!batch.isEmpty())
+            submit(batch);
+    }
+
+    private void submit(List<Subscriber> batch) {
+        try {
+            fanOut.execute(() -> batch.forEach(this::flush));
+        } catch (RejectedExecutionException ex) {
+            // Still queued with their frames; retried on the next publish
+            behind.addAll(batch);
+        }
+    }
+
+    // Only one thread flushes a subscriber at a time, so its frames go out in order
+    private void flush(Subscriber subscriber) {
+        do {
+            for (Long key : subscriber.pending.keySet()) {
+                Set<SseEmitter.DataWithMediaType> frame = subscriber.pending.remove(key);
+                if (frame != null && !send(subscriber, frame))
+                    return;
+            }
+            subscriber.queued.set(false);
+        } while (!subscriber.pending.isEmpty() && subscriber.queued.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, Set<SseEmitter.DataWithMediaType> frame) {
+        if (!connected.contains(subscriber)) {
+            subscriber.pending.clear();
+            return false;
+        }
+        subscriber.sendStarted = System.nanoTime();
+        try {
+            subscriber.emitter.send(frame);
+        } catch (IOException | IllegalStateException ex) {
+            unsubscribe(subscriber);
+            return false;
+        } finally {
+            subscriber.sendStarted = 0;
+        }
+        // complete() waits on the emitter behind a blocked send, so it is left to this thread
+        if (subscriber.stalled) {
+            subscriber.pending.clear();
+            subscriber.emitter.complete();
+            return false;
+        }
+        return true;
+    }
+
+    private Set<SseEmitter.DataWithMediaType> frame(SeatAvailabilityUpdate update) {
+        try {
+            String json = objectMapper.writeValueAsString(update);
+            return SseEmitter.event()
+                    .name("availability")
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialise availability update", ex);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!connected.remove(subscriber))
+            return;
+        connectedCount.decrementAndGet();
+        for (Long eventId : subscriber.eventIds) {
+            subscribers.computeIfPresent(eventId, (id, watching) -> {
+                watching.remove(subscriber);
+                return watching.isEmpty() ? null : watching;
+            });
+        }
+        log.debug("Availability subscriber disconnected, {} remaining", connectedCount.get());
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<Long> eventIds;
+        private final Map<Long, Set<SseEmitter.DataWithMediaType>> pending = new ConcurrentHashMap<>();
+        // Set while the subscriber is waiting for, or in, a flush
+        private final AtomicBoolean queued = new AtomicBoolean();
+        private volatile long sendStarted;
+        private volatile boolean stalled;
+
+        private Subscriber(SseEmitter emitter, Set<Long> eventIds) {
+            this.emitter = emitter;
+            this.eventIds = eventIds;
+        }
+    }
+}
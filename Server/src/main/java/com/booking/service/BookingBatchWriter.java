@@ -0,0 +1,469 @@
+package com.booking.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.modal.Booking;
+import com.booking.modal.BookingStatus;
+import com.booking.modal.IdempotencyRecord;
+import com.booking.modal.OutboxEventType;
+import com.booking.repository.BookingRepository.BookingSeats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Group commit for new bookings. Concurrent callers are collected for a
+ * short window and written in a single transaction: one batched insert into
+ * booking, one aggregated available_seats update per event, one seat map
+ * write per reserved-seating event, one batched insert into the outbox and
+ * one sales aggregate update per event.
+ *
+ * With {@code booking.shards.enabled} there is one such writer per shard and
+ * every event belongs to one shard. The shard's thread also reserves the
+ * seats and applies cancellations of its events, in the order they arrive,
+ * so each event has a single writer and shards never wait on each other's
+ * rows. Without shards one writer serves every event and seats are reserved
+ * on the caller's thread.
+ */
+@Component
+public class BookingBatchWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingBatchWriter.class);
+
+    private static final String DECREMENT_SQL =
+            "UPDATE event SET available_seats = available_seats - ? WHERE id = ?";
+    private static final String CANCEL_SQL =
+            "UPDATE booking SET status = ? WHERE id = ? AND status IN (?, ?)";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatInventory seatInventory;
+    private final SeatMapInventory seatMapInventory;
+    private final BookingOutbox outbox;
+    private final EventSalesLedger eventSales;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long writeTimeoutMs;
+    private final boolean sharded;
+
+    private final Timer writeWait;
+    private final Timer seatUpdate;
+    private final DistributionSummary batchSize;
+
+    private final Shard[] shards;
+    private volatile boolean running;
+
+    public BookingBatchWriter(EntityManager entityManager,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              SeatInventory seatInventory,
+                              SeatMapInventory seatMapInventory,
+                              BookingOutbox outbox,
+                              EventSalesLedger eventSales,
+                              @Value("${booking.batch.window-ms:5}") long windowMs,
+                              @Value("${booking.batch.max-size:200}") int maxBatchSize,
+                              @Value("${booking.batch.write-timeout-ms:10000}") long writeTimeoutMs,
+                              @Value("${booking.shards.enabled:false}") boolean sharded,
+                              @Value("${booking.shards.count:4}") int shardCount,
+                              MeterRegistry meterRegistry) {
+        if (sharded && shardCount <= 0)
+            throw new IllegalArgumentException("Shard count must be greater than zero");
+
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.seatInventory = seatInventory;
+        this.seatMapInventory = seatMapInventory;
+        this.outbox = outbox;
+        this.eventSales = eventSales;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxBatchSize = maxBatchSize;
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.sharded = sharded;
+        this.shards = new Shard[sharded ? shardCount : 1];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+        }
+        this.writeWait = Timer.builder("booking.write.wait")
+                .description("Time a booking waits for its batch to commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        // The event rows are locked by this update, so it includes any wait for those locks
+        this.seatUpdate = Timer.builder("booking.seat.update")
+                .description("Aggregated available_seats update per batch, including row lock waits")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("booking.batch.size")
+                .description("Bookings and cancellations per group commit")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < shards.length; i++) {
+            Shard shard = shards[i];
+            shard.worker = new Thread(() -> run(shard), sharded ? "booking-shard-" + i : "booking-writer");
+            shard.worker.setDaemon(true);
+            shard.worker.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Shard shard : shards) {
+            shard.worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // Whatever the workers did not get to is answered, so no caller waits on it
+        List<PendingWrite> abandoned = new ArrayList<>();
+        for (Shard shard : shards) {
+            shard.queue.drainTo(abandoned);
+        }
+        if (!abandoned.isEmpty())
+            log.warn("Booking writer stopped with {} writes queued", abandoned.size());
+        abandoned.forEach(p -> p.future.completeExceptionally(new IllegalStateException("Booking writer stopped")));
+    }
+
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    /**
+     * Queues the booking and blocks until its batch has committed. The
+     * booking's id is set on success.
+     */
+    public Booking write(Booking booking) {
+        return write(booking, null, null, null);
+    }
+
+    /**
+     * As {@link #write(Booking)}, also inserting the idempotency record in the
+     * same transaction once the booking id is known, with the response
+     * {@code recordedResponse} makes of the booking at that point. The
+     * reservation takes the booking's seats and throws when it cannot; it
+     * runs on the caller's thread, or on the shard's thread just before the
+     * booking joins a batch.
+     */
+    public Booking write(Booking booking, IdempotencyRecord idempotencyRecord,
+                         Function<Booking, String> recordedResponse, Runnable reservation) {
+        if (!running)
+            throw new IllegalStateException("Booking writer is not running");
+
+        if (reservation != null && !sharded)
+            reservation.run();
+        PendingWrite pending = new PendingWrite(booking, idempotencyRecord, recordedResponse,
+                sharded ? reservation : null, null);
+        return submit(shard(booking.getEvent().getId()), pending);
+    }
+
+    /**
+     * Cancels the booking on its event's shard, in the same batches as the
+     * shard's new bookings. Only used with shards; its seats are back on
+     * sale once this returns.
+     */
+    public void cancel(BookingSeats booking) {
+        if (!sharded)
+            throw new IllegalStateException("Cancellations go through the writer only when sharded");
+        if (!running)
+            throw new IllegalStateException("Booking writer is not running");
+
+        submit(shard(booking.getEventId()), new PendingWrite(null, null, null, null, booking));
+    }
+
+    private Booking submit(Shard shard, PendingWrite pending) {
+        long queued = System.nanoTime();
+        shard.queue.add(pending);
+        // Stopped since the check: the worker may be gone and the queue already drained
+        if (!running && shard.queue.remove(pending))
+            throw new IllegalStateException("Booking writer is not running");
+        try {
+            return pending.future.get(writeTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            if (shard.queue.remove(pending))
+                throw new IllegalStateException("Booking could not be written in time, try again");
+            // Already in a committing batch. If that fails, the seats it took come back here
+            pending.future.whenComplete((booking, failure) -> {
+                if (failure != null && pending.booking != null && pending.batched)
+                    restoreSeats(pending.booking);
+            });
+            throw new WriteInDoubtException();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the booking writer");
+        } finally {
+            writeWait.record(System.nanoTime() - queued, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void restoreSeats(Booking booking) {
+        seatInventory.restore(booking.getEvent().getId(), booking.getSeats());
+        if (booking.getFirstSeat() != null)
+            seatMapInventory.restore(booking.getEvent().getId(), booking.getFirstSeat(), booking.getSeats());
+    }
+
+    private Shard shard(Long eventId) {
+        return shards[(int) Math.floorMod(eventId, (long) shards.length)];
+    }
+
+    private void run(Shard shard) {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        List<PendingWrite> drained = new ArrayList<>(maxBatchSize);
+        while (running || !shard.queue.isEmpty()) {
+            try {
+                PendingWrite first = shard.queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+
+                accept(first, batch);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    shard.queue.drainTo(drained, maxBatchSize - batch.size());
+                    drained.forEach(pending -> accept(pending, batch));
+                    drained.clear();
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0)
+                        break;
+                    PendingWrite next = shard.queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null)
+                        break;
+                    accept(next, batch);
+                }
+
+                if (batch.isEmpty())
+                    continue;
+                batchSize.record(batch.size());
+                commit(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException ex) {
+                log.error("Booking writer failed", ex);
+                batch.forEach(p -> p.future.completeExceptionally(ex));
+            } finally {
+                // Only does anything when an Error is about to end the thread
+                batch.forEach(p -> p.future.completeExceptionally(new IllegalStateException("Booking writer failed")));
+                batch.clear();
+            }
+        }
+    }
+
+    // A booking whose seats are gone is answered here and never reaches the batch
+    private static void accept(PendingWrite pending, List<PendingWrite> batch) {
+        if (pending.reservation != null) {
+            try {
+                pending.reservation.run();
+            } catch (RuntimeException ex) {
+                pending.future.completeExceptionally(ex);
+                return;
+            }
+        }
+        pending.batched = true;
+        batch.add(pending);
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                insertBookings(batch);
+                cancelBookings(batch);
+                updateSeats(batch);
+                writeSeatMaps(batch);
+                appendOutbox(batch);
+                recordSales(batch);
+            });
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(ex);
+                return;
+            }
+            // One bad row should not fail its neighbours: retry one by one
+            batch.forEach(PendingWrite::reset);
+            log.warn("Booking batch of {} failed, retrying individually", batch.size(), ex);
+            for (PendingWrite pending : batch) {
+                commit(List.of(pending));
+            }
+            return;
+        }
+
+        for (PendingWrite pending : batch) {
+            if (pending.booking != null) {
+                pending.future.complete(pending.booking);
+            } else if (pending.cancelled) {
+                // The row already has these seats back; only the live counters follow
+                BookingSeats cancel = pending.cancellation;
+                seatInventory.restore(cancel.getEventId(), cancel.getSeats());
+                if (cancel.getFirstSeat() != null)
+                    seatMapInventory.restore(cancel.getEventId(), cancel.getFirstSeat(), cancel.getSeats());
+                pending.future.complete(null);
+            } else {
+                pending.future.completeExceptionally(
+                        new IllegalStateException("Booking already cancelled or expired"));
+            }
+        }
+    }
+
+    private void insertBookings(List<PendingWrite> batch) {
+        // Ids come from the pooled allocator, so the flush goes out as one JDBC batch
+        boolean inserted = false;
+        for (PendingWrite pending : batch) {
+            if (pending.booking == null)
+                continue;
+            entityManager.persist(pending.booking);
+            if (pending.idempotencyRecord != null) {
+                pending.idempotencyRecord.setBookingId(pending.booking.getId());
+                if (pending.recordedResponse != null)
+                    pending.idempotencyRecord.setResponse(pending.recordedResponse.apply(pending.booking));
+                entityManager.persist(pending.idempotencyRecord);
+            }
+            inserted = true;
+        }
+        if (inserted)
+            entityManager.flush();
+    }
+
+    // One statement per cancellation: batched updates do not report per-row counts
+    // when the driver rewrites them
+    private void cancelBookings(List<PendingWrite> batch) {
+        for (PendingWrite pending : batch) {
+            if (pending.cancellation != null)
+                pending.cancelled = jdbcTemplate.update(CANCEL_SQL, BookingStatus.cancelled.name(),
+                        pending.cancellation.getId(), BookingStatus.held.name(), BookingStatus.confirmed.name()) > 0;
+        }
+    }
+
+    private void updateSeats(List<PendingWrite> batch) {
+        // Sorted by event id so concurrent writers always lock rows in the same order
+        Map<Long, Integer> seatsByEvent = new TreeMap<>();
+        for (PendingWrite pending : batch) {
+            if (pending.booking != null)
+                seatsByEvent.merge(pending.booking.getEvent().getId(), pending.booking.getSeats(), Integer::sum);
+            else if (pending.cancelled)
+                seatsByEvent.merge(pending.cancellation.getEventId(), -pending.cancellation.getSeats(), Integer::sum);
+        }
+
+        List<Object[]> args = new ArrayList<>(seatsByEvent.size());
+        seatsByEvent.forEach((eventId, seats) -> {
+            if (seats != 0)
+                args.add(new Object[] { seats, eventId });
+        });
+        if (!args.isEmpty())
+            seatUpdate.record(() -> jdbcTemplate.batchUpdate(DECREMENT_SQL, args));
+    }
+
+    private void writeSeatMaps(List<PendingWrite> batch) {
+        Set<Long> eventIds = new TreeSet<>();
+        for (PendingWrite pending : batch) {
+            if (pending.booking != null && pending.booking.getFirstSeat() != null)
+                eventIds.add(pending.booking.getEvent().getId());
+        }
+        if (!eventIds.isEmpty())
+            seatMapInventory.write(eventIds);
+    }
+
+    private void appendOutbox(List<PendingWrite> batch) {
+        BookingOutbox.Batch events = outbox.batch();
+        for (PendingWrite pending : batch) {
+            if (pending.booking != null) {
+                Booking booking = pending.booking;
+                OutboxEventType type = booking.getStatus() == BookingStatus.held
+                        ? OutboxEventType.BOOKING_HELD : OutboxEventType.BOOKING_CONFIRMED;
+                events.add(type, booking.getId(), booking.getEvent().getId(), booking.getSeats());
+            } else if (pending.cancelled) {
+                BookingSeats cancel = pending.cancellation;
+                events.add(OutboxEventType.BOOKING_CANCELLED, cancel.getId(), cancel.getEventId(), cancel.getSeats());
+            }
+        }
+        events.write();
+    }
+
+    private void recordSales(List<PendingWrite> batch) {
+        EventSalesLedger.Batch sales = eventSales.batch();
+        for (PendingWrite pending : batch) {
+            if (pending.booking != null) {
+                Booking booking = pending.booking;
+                sales.booked(booking.getEvent().getId(), booking.getSeats(), booking.getTotalAmount());
+            } else if (pending.cancelled) {
+                BookingSeats cancel = pending.cancellation;
+                sales.cancelled(cancel.getEventId(), cancel.getSeats(), cancel.getTotalAmount());
+            }
+        }
+        sales.write();
+    }
+
+    /**
+     * The write did not finish within booking.batch.write-timeout-ms but its
+     * batch is still committing, so it may yet succeed. The caller must not
+     * hand its seats back; the writer does that if the batch fails.
+     */
+    public static final class WriteInDoubtException extends IllegalStateException {
+
+        private static final long serialVersionUID = 1L;
+
+        private WriteInDoubtException() {
+            super("Booking is still being written, check your bookings before trying again");
+        }
+    }
+
+    private static final class Shard {
+        private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+        private Thread worker;
+    }
+
+    private static final class PendingWrite {
+        private final Booking booking;
+        private final IdempotencyRecord idempotencyRecord;
+        private final Function<Booking, String> recordedResponse;
+        private final Runnable reservation;
+        private final BookingSeats cancellation;
+        private final CompletableFuture<Booking> future = new CompletableFuture<>();
+        private boolean cancelled;
+        // Reached a batch, so its seats were taken
+        private volatile boolean batched;
+
+        private PendingWrite(Booking booking, IdempotencyRecord idempotencyRecord,
+                             Function<Booking, String> recordedResponse, Runnable reservation,
+                             BookingSeats cancellation) {
+            this.booking = booking;
+            this.idempotencyRecord = idempotencyRecord;
+            this.recordedResponse = recordedResponse;
+            this.reservation = reservation;
+            this.cancellation = cancellation;
+        }
+
+        private void reset() {
+            if (booking != null)
+                booking.setId(null);
+            cancelled = false;
+        }
+    }
+}
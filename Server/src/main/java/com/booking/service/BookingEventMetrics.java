@@ -0,0 +1,47 @@
+package com.booking.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.booking.modal.OutboxEvent;
+import com.booking.modal.OutboxEventType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts delivered booking events by type. Redelivered events are counted
+ * again, so these are close to, not exactly, the number of changes.
+ */
+@Component
+public class BookingEventMetrics implements OutboxSubscriber {
+
+    private final Map<OutboxEventType, Counter> events = new EnumMap<>(OutboxEventType.class);
+    private final Map<OutboxEventType, Counter> seats = new EnumMap<>(OutboxEventType.class);
+
+    public BookingEventMetrics(MeterRegistry meterRegistry) {
+        for (OutboxEventType type : OutboxEventType.values()) {
+            String tag = type.name().toLowerCase(Locale.ROOT);
+            events.put(type, Counter.builder("booking.events")
+                    .description("Booking events delivered from the outbox")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+            seats.put(type, Counter.builder("booking.events.seats")
+                    .description("Seats in the booking events delivered from the outbox")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void onEvents(List<OutboxEvent> batch) {
+        for (OutboxEvent event : batch) {
+            events.get(event.getType()).increment();
+            seats.get(event.getType()).increment(event.getSeats());
+        }
+    }
+}
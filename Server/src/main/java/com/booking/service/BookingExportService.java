@@ -0,0 +1,12 @@
+package com.booking.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BookingExportService {
+
+	enum Format { CSV, NDJSON }
+
+	void exportEventBookings(Long eventId, Format format, OutputStream output) throws IOException;
+
+}
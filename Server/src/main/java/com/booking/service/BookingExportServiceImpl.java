@@ -0,0 +1,137 @@
+package com.booking.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.booking.modal.BookingStatus;
+import com.booking.response.BookingExportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Writes an event's bookings straight from a database cursor to the
+ * response. Each row is written as it arrives, so memory use stays flat
+ * however many bookings the event has.
+ *
+ * Exports read through a small pool of their own whose MySQL connections
+ * have {@code useCursorFetch} on, so rows come from a server-side cursor in
+ * fetch-size chunks. The setting makes the driver prepare every statement
+ * on the server, which the rest of the application does not want.
+ */
+@Service
+public class BookingExportServiceImpl implements BookingExportService {
+
+    private static final String CSV_HEADER = "bookingId,userName,userEmail,seats,totalAmount,status,bookingDate";
+
+    private static final String EXPORT_SQL =
+            "SELECT b.id, u.name, u.email, b.seats, b.total_amount, b.status, b.booking_date "
+            + "FROM booking b JOIN user u ON u.id = b.user_id WHERE b.event_id = ? ORDER BY b.id";
+
+    private final ObjectMapper objectMapper;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookingExportServiceImpl(ObjectMapper objectMapper,
+                                    DataSourceProperties dataSourceProperties,
+                                    @Value("${events.export.max-connections:2}") int maxConnections,
+                                    @Value("${events.export.fetch-size:1000}") int fetchSize) {
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(cursorFetchUrl(dataSourceProperties.determineUrl()))
+                .build();
+        this.dataSource.setPoolName("export");
+        this.dataSource.setMaximumPoolSize(maxConnections);
+        this.dataSource.setMinimumIdle(0);
+        this.dataSource.setReadOnly(true);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public void exportEventBookings(Long eventId, Format format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            jdbcTemplate.query(EXPORT_SQL, rs -> {
+                String status = rs.getString(6);
+                write(writer, new BookingExportRow(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getString(3),
+                        rs.getObject(4, Integer.class),
+                        rs.getObject(5, Integer.class),
+                        status == null ? null : BookingStatus.valueOf(status),
+                        rs.getObject(7, LocalDateTime.class)), format);
+            }, eventId);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dataSource.close();
+    }
+
+    private void write(Writer writer, BookingExportRow row, Format format) {
+        try {
+            if (format == Format.CSV) {
+                writer.write(String.valueOf(row.getBookingId()));
+                writer.write(',');
+                writer.write(csv(row.getUserName()));
+                writer.write(',');
+                writer.write(csv(row.getUserEmail()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getSeats()));
+                writer.write(',');
+                writer.write(row.getTotalAmount() == null ? "" : row.getTotalAmount().toString());
+                writer.write(',');
+                writer.write(String.valueOf(row.getStatus()));
+                writer.write(',');
+                writer.write(row.getBookingDate() == null ? "" : row.getBookingDate().toString());
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // User-supplied text: a leading quote keeps spreadsheets from reading it as a formula
+    private static String csv(String value) {
+        if (value == null || value.isEmpty())
+            return "";
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r')
+            value = "'" + value;
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String cursorFetchUrl(String url) {
+        if (url == null || !url.startsWith("jdbc:mysql:"))
+            return url;
+        return url + (url.indexOf('?') < 0 ? '?' : '&') + "useCursorFetch=true";
+    }
+}
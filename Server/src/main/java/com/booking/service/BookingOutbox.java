@@ -0,0 +1,80 @@
+package com.booking.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.booking.modal.OutboxEventType;
+
+/**
+ * Transactional outbox for booking side effects. Changes to a booking
+ * append a row here in their own transaction, so the side effect is
+ * recorded if and only if the change commits; {@link OutboxRelay} delivers
+ * the rows to subscribers afterwards, off the booking's critical path.
+ */
+@Component
+public class BookingOutbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_event (type, booking_id, event_id, seats, created_at, attempts) "
+            + "VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Wakes the relay when a transaction with new rows commits
+    private final Semaphore appended = new Semaphore(0);
+
+    public BookingOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Batch batch() {
+        return new Batch();
+    }
+
+    public void append(OutboxEventType type, Long bookingId, Long eventId, int seats) {
+        batch().add(type, bookingId, eventId, seats).write();
+    }
+
+    // Returns early when a transaction has committed rows since the last call
+    boolean awaitAppended(long timeoutMillis) throws InterruptedException {
+        boolean signalled = appended.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        appended.drainPermits();
+        return signalled;
+    }
+
+    private void signal() {
+        if (appended.availablePermits() == 0)
+            appended.release();
+    }
+
+    /**
+     * Rows written with one JDBC batch, in the caller's transaction.
+     */
+    public final class Batch {
+
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        private final List<Object[]> args = new ArrayList<>();
+
+        private Batch() {
+        }
+
+        public Batch add(OutboxEventType type, Long bookingId, Long eventId, int seats) {
+            args.add(new Object[] { type.name(), bookingId, eventId, seats, now });
+            return this;
+        }
+
+        public void write() {
+            if (args.isEmpty())
+                return;
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+            TransactionCallbacks.afterCommit(BookingOutbox.this::signal);
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.booking.service;
 
-import java.util.List;
+import org.springframework.data.domain.Slice;
 
+import com.booking.modal.BookingStatus;
 import com.booking.request.BookingRequest;
 import com.booking.response.BookingResponse;
 
 public interface BookingService {
 	    BookingResponse bookEvent(String userEmail, BookingRequest request);
 
-	    List<BookingResponse> getUserBookings(String userEmail);
+	    BookingResponse bookEvent(String userEmail, BookingRequest request, String idempotencyKey);
+
+	    BookingResponse findCompletedBooking(String userEmail, BookingRequest request, String idempotencyKey);
+
+	    Slice<BookingResponse> getUserBookings(String userEmail, BookingStatus status, int page, int size);
+
+	    BookingResponse confirmBooking(Long bookingId, String userEmail);
 
 	    void cancelBooking(Long bookingId, String userEmail);
 	    
@@ -2,51 +2,170 @@ package com.booking.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import jakarta.transaction.Transactional;
 
 import com.booking.modal.Booking;
 import com.booking.modal.BookingStatus;
 import com.booking.modal.Event;
+import com.booking.modal.IdempotencyRecord;
+import com.booking.modal.OutboxEventType;
 import com.booking.modal.User;
 import com.booking.repository.BookingRepository;
+import com.booking.repository.BookingRepository.BookingSeats;
 import com.booking.repository.EventRepository;
 import com.booking.repository.UserRepository;
 import com.booking.request.BookingRequest;
 import com.booking.response.BookingResponse;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
-@Transactional
 public class BookingServiceImpl implements BookingService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
     private final BookingRepository bookingRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final SeatInventory seatInventory;
+    private final SeatMapInventory seatMapInventory;
+    private final BookingBatchWriter bookingWriter;
+    private final HoldExpiryWheel holdExpiryWheel;
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingOutbox outbox;
+    private final EventSalesLedger eventSales;
+    private final long holdTtlSeconds;
+
+    private final Map<String, Timer> bookingTimers;
+    private final DistributionSummary seatsPerBooking;
+    private final Counter soldOutRejections;
 
     public BookingServiceImpl(BookingRepository bookingRepository,
                               EventRepository eventRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              SeatInventory seatInventory,
+                              SeatMapInventory seatMapInventory,
+                              BookingBatchWriter bookingWriter,
+                              HoldExpiryWheel holdExpiryWheel,
+                              IdempotencyStore idempotencyStore,
+                              TransactionTemplate transactionTemplate,
+                              BookingOutbox outbox,
+                              EventSalesLedger eventSales,
+                              @Value("${booking.hold.ttl-seconds:600}") long holdTtlSeconds,
+                              MeterRegistry meterRegistry) {
         this.bookingRepository = bookingRepository;
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
+        this.seatInventory = seatInventory;
+        this.seatMapInventory = seatMapInventory;
+        this.bookingWriter = bookingWriter;
+        this.holdExpiryWheel = holdExpiryWheel;
+        this.idempotencyStore = idempotencyStore;
+        this.transactionTemplate = transactionTemplate;
+        this.outbox = outbox;
+        this.eventSales = eventSales;
+        this.holdTtlSeconds = holdTtlSeconds;
+        this.bookingTimers = Map.of(
+                "confirmed", bookingTimer(meterRegistry, "confirmed"),
+                "held", bookingTimer(meterRegistry, "held"),
+                "sold_out", bookingTimer(meterRegistry, "sold_out"),
+                "failed", bookingTimer(meterRegistry, "failed"));
+        this.seatsPerBooking = DistributionSummary.builder("booking.seats")
+                .description("Seats per successful booking")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.soldOutRejections = Counter.builder("booking.rejections")
+                .description("Booking attempts turned away because the seats were gone")
+                .tag("reason", "sold_out")
+                .register(meterRegistry);
     }
 
     @Override
     public BookingResponse bookEvent(String userEmail, BookingRequest request) {
+        return book(userEmail, request, null);
+    }
+
+    // A retry with the same key gets the first response back without
+    // reserving seats or writing anything again
+    @Override
+    public BookingResponse bookEvent(String userEmail, BookingRequest request, String idempotencyKey) {
+        if (idempotencyKey == null)
+            return book(userEmail, request, null);
+
+        String key = scopedKey(userEmail, idempotencyKey);
+        String fingerprint = fingerprint(request);
+        return idempotencyStore.execute(key, fingerprint, () -> book(userEmail, request,
+                new IdempotencyRecord(key, fingerprint, null, LocalDateTime.now())));
+    }
+
+    @Override
+    public BookingResponse findCompletedBooking(String userEmail, BookingRequest request, String idempotencyKey) {
+        if (idempotencyKey == null)
+            return null;
+        return idempotencyStore.findCompleted(scopedKey(userEmail, idempotencyKey), fingerprint(request));
+    }
+
+    private BookingResponse book(String userEmail, BookingRequest request, IdempotencyRecord idempotencyRecord) {
+        long started = System.nanoTime();
+        String outcome = "failed";
+        try {
+            BookingResponse response = reserveAndWrite(userEmail, request, idempotencyRecord);
+            outcome = response.getStatus().name();
+            seatsPerBooking.record(response.getSeatsBooked());
+            return response;
+        } catch (SoldOutException ex) {
+            outcome = "sold_out";
+            soldOutRejections.increment();
+            throw ex;
+        } finally {
+            bookingTimers.get(outcome).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer bookingTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("booking.create")
+                .description("Booking from user lookup to committed row, by outcome")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    // Not transactional: the booking is committed by the batch writer, and this
+    // thread must not hold a connection while it waits for that batch
+    private BookingResponse reserveAndWrite(String userEmail, BookingRequest request,
+                                            IdempotencyRecord idempotencyRecord) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new IllegalStateException("User not found"));
 
-        Event event = eventRepository.findByIdForUpdate(request.getEventId())
+        Event event = eventRepository.findById(request.getEventId())
                 .orElseThrow(() -> new IllegalStateException("Event not found"));
 
         if (request.getSeats() <= 0)
             throw new IllegalArgumentException("Seats must be greater than zero");
 
-        if (event.getAvailableSeats() < request.getSeats())
-            throw new IllegalStateException("Not enough seats available");
+        BookingStatus status = request.getStatus() == null ? BookingStatus.confirmed : request.getStatus();
+        if (status != BookingStatus.confirmed && status != BookingStatus.held)
+            throw new IllegalArgumentException("A booking can only be created as held or confirmed");
 
-        event.setAvailableSeats(event.getAvailableSeats() - request.getSeats());
+        SeatBitmap seatMap = seatMapInventory.get(event.getId());
+        if (request.getSection() != null && (seatMap == null || !seatMap.hasSection(request.getSection())))
+            throw new IllegalArgumentException(seatMap == null
+                    ? "Event has no reserved seating" : "Unknown section " + request.getSection());
 
         Booking booking = new Booking();
         booking.setUser(user);
@@ -54,64 +173,166 @@ public class BookingServiceImpl implements BookingService {
         booking.setSeats(request.getSeats());
         booking.setTotalAmount(request.getSeats() * event.getPrice());
         booking.setBookingDate(LocalDateTime.now());
-        booking.setStatus(BookingStatus.confirmed);
+        booking.setStatus(status);
+        if (status == BookingStatus.held)
+            booking.setHoldExpiresAt(booking.getBookingDate().plusSeconds(holdTtlSeconds));
+
+        // Run by the writer: here, or on the event's shard when bookings are sharded
+        AtomicBoolean reserved = new AtomicBoolean();
+        Runnable reservation = () -> {
+            reserveSeats(booking, seatMap, request.getSection());
+            reserved.set(true);
+        };
+
+        // Also stored with the idempotency key, so a retry gets this exact response back
+        Function<Booking, BookingResponse> respond = written -> {
+            BookingResponse response = new BookingResponse(
+                written.getId(),
+                event.getTitle(),
+                written.getSeats(),
+                status == BookingStatus.held ? "Seats held" : "Event booked successfully",
+                written.getStatus(),
+                event.getDate(),
+                event.getLocation(),
+                written.getTotalAmount(),
+                written.getBookingDate()
+            );
+            response.setHoldExpiresAt(written.getHoldExpiresAt());
+            if (written.getFirstSeat() != null)
+                response.setSeatNumbers(seatMap.labels(written.getFirstSeat(), written.getSeats()));
+            return response;
+        };
+
+        Booking saved;
+        try {
+            saved = bookingWriter.write(booking, idempotencyRecord,
+                    written -> idempotencyStore.serialize(respond.apply(written)), reservation);
+        } catch (RuntimeException ex) {
+            if (reserved.get() && !(ex instanceof BookingBatchWriter.WriteInDoubtException)) {
+                seatInventory.restore(event.getId(), booking.getSeats());
+                if (booking.getFirstSeat() != null)
+                    seatMapInventory.restore(event.getId(), booking.getFirstSeat(), booking.getSeats());
+            }
+            throw ex;
+        }
+
+        if (status == BookingStatus.held)
+            holdExpiryWheel.schedule(saved.getId(), saved.getHoldExpiresAt());
 
-        Booking saved = bookingRepository.save(booking);
+        return respond.apply(saved);
+    }
+
+    private void reserveSeats(Booking booking, SeatBitmap seatMap, String section) {
+        Long eventId = booking.getEvent().getId();
+        if (!seatInventory.tryReserve(eventId, booking.getSeats()))
+            throw new SoldOutException("Not enough seats available");
+
+        // Reserved seating also needs that many seats side by side in one row
+        if (seatMap != null) {
+            int first = seatMapInventory.claim(eventId, booking.getSeats(), section);
+            if (first < 0) {
+                seatInventory.restore(eventId, booking.getSeats());
+                throw new SoldOutException("No " + booking.getSeats() + " adjacent seats available");
+            }
+            booking.setFirstSeat(first);
+        }
+    }
+
+    @Override
+    @Transactional
+    public BookingResponse confirmBooking(Long bookingId, String userEmail) {
+
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new IllegalStateException("Booking not found"));
+
+        if (!booking.getUser().getEmail().equals(userEmail))
+            throw new IllegalStateException("Unauthorized confirmation attempt");
+
+        // Only succeeds while the hold is live; the expiry wheel skips it afterwards
+        int updated = bookingRepository.confirmHold(
+                bookingId, LocalDateTime.now(), BookingStatus.held, BookingStatus.confirmed);
+        if (updated == 0)
+            throw new IllegalStateException(booking.getStatus() == BookingStatus.held
+                    ? "Hold has expired" : "Booking is not held");
+
+        Event event = booking.getEvent();
+        outbox.append(OutboxEventType.BOOKING_CONFIRMED, bookingId, event.getId(), booking.getSeats());
 
         return new BookingResponse(
-            saved.getId(),
-            event.getTitle(),
-            saved.getSeats(),
-            "Event booked successfully",
-            saved.getStatus(),
-            event.getDate(),
-            event.getLocation(),
-            saved.getTotalAmount(),
-            saved.getBookingDate()
+                booking.getId(),
+                event.getTitle(),
+                booking.getSeats(),
+                "Booking confirmed",
+                BookingStatus.confirmed,
+                event.getDate(),
+                event.getLocation(),
+                booking.getTotalAmount(),
+                booking.getBookingDate()
         );
     }
 
+    private static final class SoldOutException extends IllegalStateException {
+        private static final long serialVersionUID = 1L;
+
+        private SoldOutException(String message) {
+            super(message);
+        }
+    }
+
+    private static String scopedKey(String userEmail, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)
+            throw new IllegalArgumentException(
+                    "Idempotency-Key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        return userEmail + "|" + idempotencyKey;
+    }
+
+    private static String fingerprint(BookingRequest request) {
+        BookingStatus status = request.getStatus() == null ? BookingStatus.confirmed : request.getStatus();
+        return request.getEventId() + ":" + request.getSeats() + ":" + status
+                + (request.getSection() == null ? "" : ":" + request.getSection());
+    }
+
     @Override
-    public List<BookingResponse> getUserBookings(String userEmail) {
+    public Slice<BookingResponse> getUserBookings(String userEmail, BookingStatus status, int page, int size) {
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalStateException("User not found"));
+        if (page < 0)
+            throw new IllegalArgumentException("Page must not be negative");
+        if (size <= 0 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
 
-        return bookingRepository.findByUser(user)
-                .stream()
-                .map(b -> new BookingResponse(
-                        b.getId(),
-                        b.getEvent().getTitle(),
-                        b.getSeats(),
-                        "Booking retrieved",
-                        b.getStatus(),
-                        b.getEvent().getDate(),
-                        b.getEvent().getLocation(),
-                        b.getSeats() * b.getEvent().getPrice(),
-                        b.getBookingDate()
-                ))
-                .toList();
+        return bookingRepository.findResponsesByUserEmail(userEmail, status, PageRequest.of(page, size));
     }
 
+    // Not transactional: with shards the cancellation is written by the event's shard,
+    // and this thread must not hold a connection while it waits
     @Override
     public void cancelBooking(Long bookingId, String userEmail) {
 
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new IllegalStateException("Booking not found"));
-
-        if (!booking.getUser().getEmail().equals(userEmail))
-            throw new IllegalStateException("Unauthorized cancellation attempt");
+        // Projection only: neither the booking nor its user is loaded
+        BookingSeats booking = bookingRepository.findSeatsByIdAndUserEmail(bookingId, userEmail)
+                .orElseThrow(() -> new IllegalStateException(bookingRepository.existsById(bookingId)
+                        ? "Unauthorized cancellation attempt" : "Booking not found"));
 
-        Event event = eventRepository.findByIdForUpdate(booking.getEvent().getId())
-                .orElseThrow(() -> new IllegalStateException("Event not found"));
+        if (bookingWriter.isSharded()) {
+            bookingWriter.cancel(booking);
+            return;
+        }
 
-        event.setAvailableSeats(event.getAvailableSeats() + booking.getSeats());
+        transactionTemplate.executeWithoutResult(status -> {
+            int updated = bookingRepository.updateStatusIn(
+                    List.of(bookingId), BookingStatus.ACTIVE, BookingStatus.cancelled);
+            if (updated == 0)
+                throw new IllegalStateException("Booking already cancelled or expired");
 
-        booking.setStatus(BookingStatus.cancelled);
-        bookingRepository.save(booking);
+            seatInventory.release(booking.getEventId(), booking.getSeats());
+            seatMapInventory.release(booking.getEventId(), booking.getFirstSeat(), booking.getSeats());
+            outbox.append(OutboxEventType.BOOKING_CANCELLED, bookingId, booking.getEventId(), booking.getSeats());
+            eventSales.batch().cancelled(booking.getEventId(), booking.getSeats(), booking.getTotalAmount()).write();
+        });
     }
 
     @Override
+    @Transactional
     public BookingResponse getBookingById(Long bookingId, String userEmail) {
 
         Booking booking = bookingRepository.findById(bookingId)
@@ -122,7 +343,7 @@ public class BookingServiceImpl implements BookingService {
 
         Event event = booking.getEvent();
 
-        return new BookingResponse(
+        BookingResponse response = new BookingResponse(
                 booking.getId(),
                 event.getTitle(),
                 booking.getSeats(),
@@ -133,5 +354,9 @@ public class BookingServiceImpl implements BookingService {
                 booking.getSeats() * event.getPrice(), // totalAmount
                 booking.getBookingDate()           // bookingTime
         );
+        response.setHoldExpiresAt(booking.getHoldExpiresAt());
+        if (booking.getFirstSeat() != null)
+            response.setSeatNumbers(seatMapInventory.labels(event.getId(), booking.getFirstSeat(), booking.getSeats()));
+        return response;
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.booking.service;
+
+import java.util.List;
+
+import com.booking.response.CancellationJobResponse;
+
+public interface BulkCancellationService {
+
+	CancellationJobResponse cancelEventBookings(Long eventId);
+
+	CancellationJobResponse cancelBookings(List<Long> bookingIds);
+
+	CancellationJobResponse getJob(String jobId);
+
+}
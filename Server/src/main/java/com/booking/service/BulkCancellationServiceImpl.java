@@ -0,0 +1,210 @@
+package com.booking.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.modal.BookingStatus;
+import com.booking.modal.OutboxEventType;
+import com.booking.repository.BookingRepository;
+import com.booking.repository.BookingRepository.BookingSeats;
+import com.booking.repository.EventRepository;
+import com.booking.response.CancellationJobResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bulk cancellations run as background jobs on a single worker thread.
+ * Bookings are cancelled in chunks: each chunk locks its rows once, flips
+ * them all to cancelled with one UPDATE, and hands one aggregated seat
+ * increment per event to {@link SeatInventory}.
+ */
+@Service
+public class BulkCancellationServiceImpl implements BulkCancellationService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkCancellationServiceImpl.class);
+
+    private final BookingRepository bookingRepository;
+    private final EventRepository eventRepository;
+    private final SeatInventory seatInventory;
+    private final SeatMapInventory seatMapInventory;
+    private final BookingOutbox outbox;
+    private final EventSalesLedger eventSales;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bulk-cancel");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Finished jobs stay visible for a day
+    private final Cache<String, Job> jobs = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(1, TimeUnit.DAYS)
+            .build();
+
+    public BulkCancellationServiceImpl(BookingRepository bookingRepository,
+                                       EventRepository eventRepository,
+                                       SeatInventory seatInventory,
+                                       SeatMapInventory seatMapInventory,
+                                       BookingOutbox outbox,
+                                       EventSalesLedger eventSales,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${booking.cancel.chunk-size:500}") int chunkSize) {
+        this.bookingRepository = bookingRepository;
+        this.eventRepository = eventRepository;
+        this.seatInventory = seatInventory;
+        this.seatMapInventory = seatMapInventory;
+        this.outbox = outbox;
+        this.eventSales = eventSales;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdown();
+        worker.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public CancellationJobResponse cancelEventBookings(Long eventId) {
+        if (!eventRepository.existsById(eventId))
+            throw new IllegalStateException("Event not found");
+
+        return submit(job -> {
+            job.total.set(bookingRepository.countByEventIdAndStatusIn(eventId, BookingStatus.ACTIVE));
+            long afterId = 0;
+            while (true) {
+                List<Long> ids = bookingRepository.findIdsByEventId(
+                        eventId, BookingStatus.ACTIVE, afterId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty())
+                    break;
+                cancelChunk(job, ids);
+                afterId = ids.get(ids.size() - 1);
+            }
+        });
+    }
+
+    @Override
+    public CancellationJobResponse cancelBookings(List<Long> bookingIds) {
+        // Sorted so concurrent jobs lock rows in the same order
+        List<Long> ids = new ArrayList<>(new TreeSet<>(bookingIds));
+
+        return submit(job -> {
+            job.total.set(ids.size());
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                cancelChunk(job, ids.subList(from, Math.min(from + chunkSize, ids.size())));
+            }
+        });
+    }
+
+    @Override
+    public CancellationJobResponse getJob(String jobId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null)
+            throw new IllegalStateException("Cancellation job not found");
+        return job.toResponse();
+    }
+
+    private CancellationJobResponse submit(JobBody body) {
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        CancellationJobResponse submitted = job.toResponse();
+        worker.execute(() -> run(job, body));
+        return submitted;
+    }
+
+    private void run(Job job, JobBody body) {
+        job.state = "running";
+        try {
+            body.run(job);
+            job.state = "completed";
+        } catch (RuntimeException ex) {
+            log.error("Cancellation job {} failed", job.id, ex);
+            job.error = ex.getMessage();
+            job.state = "failed";
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private void cancelChunk(Job job, List<Long> ids) {
+        long[] result = transactionTemplate.execute(status -> {
+            List<BookingSeats> active = bookingRepository.findSeatsForUpdate(ids, BookingStatus.ACTIVE);
+            if (active.isEmpty())
+                return new long[] { 0, 0 };
+
+            List<Long> activeIds = new ArrayList<>(active.size());
+            Map<Long, Integer> seatsByEvent = new TreeMap<>();
+            long seats = 0;
+            for (BookingSeats booking : active) {
+                activeIds.add(booking.getId());
+                seatsByEvent.merge(booking.getEventId(), booking.getSeats(), Integer::sum);
+                seats += booking.getSeats();
+            }
+
+            bookingRepository.updateStatusIn(activeIds, BookingStatus.ACTIVE, BookingStatus.cancelled);
+            seatsByEvent.forEach(seatInventory::release);
+            BookingOutbox.Batch events = outbox.batch();
+            EventSalesLedger.Batch sales = eventSales.batch();
+            for (BookingSeats booking : active) {
+                seatMapInventory.release(booking.getEventId(), booking.getFirstSeat(), booking.getSeats());
+                events.add(OutboxEventType.BOOKING_CANCELLED, booking.getId(), booking.getEventId(), booking.getSeats());
+                sales.cancelled(booking.getEventId(), booking.getSeats(), booking.getTotalAmount());
+            }
+            events.write();
+            sales.write();
+            return new long[] { activeIds.size(), seats };
+        });
+
+        job.cancelled.addAndGet(result[0]);
+        job.skipped.addAndGet(ids.size() - result[0]);
+        job.seatsReleased.addAndGet(result[1]);
+    }
+
+    @FunctionalInterface
+    private interface JobBody {
+        void run(Job job);
+    }
+
+    private static final class Job {
+        private final String id;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong cancelled = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong seatsReleased = new AtomicLong();
+        private volatile String state = "queued";
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private Job(String id) {
+            this.id = id;
+        }
+
+        private CancellationJobResponse toResponse() {
+            return new CancellationJobResponse(id, state, total.get(), cancelled.get(), skipped.get(),
+                    seatsReleased.get(), submittedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.booking.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.booking.response.CacheStatsResponse;
+import com.booking.response.EventCatalogPayload;
+import com.booking.response.EventResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache for the public event catalogue.
+ *
+ * Event details are cached until an admin changes the event. Seat counts move
+ * with every booking, so they are not taken from the cached entry: single
+ * events get the live count from {@link SeatInventory} on every read, and the
+ * full listing is re-stamped with live counts once its short TTL runs out.
+ *
+ * The listing is also kept pre-encoded for GET /events. It is re-encoded only
+ * when the listing itself is rebuilt, by the first request that needs it while
+ * the others wait for that result, and its ETag only changes when the encoded
+ * bytes do.
+ */
+@Component
+public class EventCatalogCache implements MeterBinder {
+
+    private static final String ALL = "all";
+
+    private final SeatInventory seatInventory;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, EventResponse> events;
+    private final Cache<String, List<EventResponse>> catalogue;
+    private final Cache<String, Listing> listing;
+
+    public EventCatalogCache(SeatInventory seatInventory,
+                             ObjectMapper objectMapper,
+                             @Value("${events.cache.max-size:10000}") long maxSize,
+                             @Value("${events.cache.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${events.cache.seats-ttl-ms:2000}") long seatsTtlMs) {
+        this.seatInventory = seatInventory;
+        this.objectMapper = objectMapper;
+        this.events = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.catalogue = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.listing = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofMillis(seatsTtlMs))
+                .recordStats()
+                .build();
+    }
+
+    public EventResponse get(Long id, Function<Long, EventResponse> loader) {
+        return withLiveSeats(events.get(id, loader));
+    }
+
+    public List<EventResponse> getAll(Supplier<List<EventResponse>> loader) {
+        return listing(loader).events;
+    }
+
+    public EventCatalogPayload getAllEncoded(Supplier<List<EventResponse>> loader) {
+        return listing(loader).encoded();
+    }
+
+    /**
+     * Drops the event and the cached listings once the surrounding
+     * transaction has finished, so a concurrent read cannot re-cache the
+     * old row.
+     */
+    public void invalidate(Long id) {
+        evict(id);
+        TransactionCallbacks.afterCompletion(committed -> evict(id));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, events, "events");
+        CaffeineCacheMetrics.monitor(registry, catalogue, "catalogue");
+        CaffeineCacheMetrics.monitor(registry, listing, "listing");
+    }
+
+    public List<CacheStatsResponse> stats() {
+        return List.of(
+                stats("events", events),
+                stats("catalogue", catalogue),
+                stats("listing", listing));
+    }
+
+    private void evict(Long id) {
+        events.invalidate(id);
+        catalogue.invalidateAll();
+        listing.invalidateAll();
+    }
+
+    private Listing listing(Supplier<List<EventResponse>> loader) {
+        return listing.get(ALL, key -> new Listing(
+                catalogue.get(ALL, k -> loader.get())
+                        .stream()
+                        .map(this::withLiveSeats)
+                        .toList()));
+    }
+
+    private EventCatalogPayload encode(List<EventResponse> events) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(events);
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(json);
+            }
+
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+
+            return new EventCatalogPayload(json, buffer.toByteArray(), etag);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode event catalogue", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private EventResponse withLiveSeats(EventResponse cached) {
+        return new EventResponse(
+                cached.getId(),
+                cached.getTitle(),
+                cached.getDescription(),
+                cached.getLocation(),
+                cached.getDate(),
+                seatInventory.getAvailableOrDefault(cached.getId(), cached.getAvailableSeats()),
+                cached.getTotalSeats(),
+                cached.getPrice(),
+                cached.getImg());
+    }
+
+    private static CacheStatsResponse stats(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(
+                name,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount());
+    }
+
+    // The encoding is made on first use, once per listing
+    private final class Listing {
+        private final List<EventResponse> events;
+        private volatile EventCatalogPayload payload;
+
+        private Listing(List<EventResponse> events) {
+            this.events = events;
+        }
+
+        private EventCatalogPayload encoded() {
+            EventCatalogPayload encoded = payload;
+            if (encoded == null) {
+                synchronized (this) {
+                    encoded = payload;
+                    if (encoded == null)
+                        payload = encoded = encode(events);
+                }
+            }
+            return encoded;
+        }
+    }
+}
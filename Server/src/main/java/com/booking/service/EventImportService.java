@@ -0,0 +1,14 @@
+package com.booking.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.booking.response.EventImportResponse;
+
+public interface EventImportService {
+
+	enum Format { NDJSON, CSV }
+
+	EventImportResponse importEvents(InputStream input, Format format) throws IOException;
+
+}
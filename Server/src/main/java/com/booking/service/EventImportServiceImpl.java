@@ -0,0 +1,286 @@
+package com.booking.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.modal.Event;
+import com.booking.request.EventRequest;
+import com.booking.response.EventImportResponse;
+import com.booking.response.ImportRowError;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Streams an NDJSON or CSV body of events into the event table. Rows are
+ * validated as they are read and written in chunks, each chunk in its own
+ * transaction, so memory use depends on the chunk size and not on the size
+ * of the upload. Invalid rows are reported and skipped.
+ */
+@Service
+public class EventImportServiceImpl implements EventImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventImportServiceImpl.class);
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("title", "description", "location", "date", "totalseats");
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final SeatInventory seatInventory;
+    private final EventCatalogCache eventCatalogCache;
+    private final EventSearchIndex eventSearchIndex;
+    private final int chunkSize;
+
+    public EventImportServiceImpl(EntityManager entityManager,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  SeatInventory seatInventory,
+                                  EventCatalogCache eventCatalogCache,
+                                  EventSearchIndex eventSearchIndex,
+                                  @Value("${events.import.chunk-size:1000}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.seatInventory = seatInventory;
+        this.eventCatalogCache = eventCatalogCache;
+        this.eventSearchIndex = eventSearchIndex;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public EventImportResponse importEvents(InputStream input, Format format) throws IOException {
+        long started = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+        List<Event> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Map<String, Integer> columns = format == Format.CSV ? readHeader(reader) : null;
+        long lineNumber = format == Format.CSV ? 1 : 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank())
+                continue;
+
+            progress.rowsRead++;
+            try {
+                EventRequest request = format == Format.CSV ? parseCsv(line, columns) : parseJson(line);
+                chunk.add(toEvent(validate(request)));
+                chunkLines.add(lineNumber);
+            } catch (IllegalArgumentException ex) {
+                progress.fail(lineNumber, ex.getMessage());
+            }
+
+            if (chunk.size() == chunkSize) {
+                write(chunk, chunkLines, progress);
+            }
+        }
+        write(chunk, chunkLines, progress);
+
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        double rowsPerSecond = durationMs == 0 ? progress.rowsRead : progress.rowsRead * 1000.0 / durationMs;
+        return new EventImportResponse(progress.rowsRead, progress.imported, progress.failed, durationMs,
+                rowsPerSecond, progress.errors, progress.failed > progress.errors.size());
+    }
+
+    private void write(List<Event> chunk, List<Long> chunkLines, ImportProgress progress) {
+        if (chunk.isEmpty())
+            return;
+
+        try {
+            try {
+                // Pooled ids let the flush go out as JDBC batches; clear() keeps the context empty
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Event event : chunk) {
+                        entityManager.persist(event);
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+            } catch (RuntimeException ex) {
+                for (Long line : chunkLines) {
+                    progress.fail(line, "Batch insert failed: " + ex.getMessage());
+                }
+                return;
+            }
+            progress.imported += chunk.size();
+
+            // The rows are committed; from here a failure only leaves an in-memory view behind
+            try {
+                eventCatalogCache.invalidate(chunk.get(0).getId());
+                for (Event event : chunk) {
+                    seatInventory.register(event.getId(), event.getAvailableSeats());
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Imported {} events but could not load them into the catalog", chunk.size(), ex);
+            }
+            try {
+                eventSearchIndex.indexAll(chunk);
+            } catch (RuntimeException ex) {
+                log.warn("Imported {} events but could not index them for search", chunk.size(), ex);
+            }
+        } finally {
+            chunk.clear();
+            chunkLines.clear();
+        }
+    }
+
+    private EventRequest validate(EventRequest request) {
+        Set<ConstraintViolation<EventRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<EventRequest> violation = violations.iterator().next();
+            throw new IllegalArgumentException(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return request;
+    }
+
+    private static Event toEvent(EventRequest request) {
+        Event event = new Event();
+        event.setTitle(request.getTitle());
+        event.setDescription(request.getDescription());
+        event.setLocation(request.getLocation());
+        event.setDate(request.getDate());
+        event.setTotalSeats(request.getTotalSeats());
+        event.setAvailableSeats(request.getTotalSeats());
+        event.setPrice(request.getPrice());
+        event.setImg(request.getImg());
+        return event;
+    }
+
+    private EventRequest parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, EventRequest.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Invalid JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    private static Map<String, Integer> readHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null)
+            throw new IllegalArgumentException("CSV header row is missing");
+
+        List<String> names = splitCsv(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required))
+                throw new IllegalArgumentException("CSV header is missing column " + required);
+        }
+        return columns;
+    }
+
+    private static EventRequest parseCsv(String line, Map<String, Integer> columns) {
+        List<String> fields = splitCsv(line);
+        EventRequest request = new EventRequest();
+        request.setTitle(field(fields, columns, "title"));
+        request.setDescription(field(fields, columns, "description"));
+        request.setLocation(field(fields, columns, "location"));
+        request.setDate(parseDate(field(fields, columns, "date")));
+        request.setTotalSeats(parseInt(field(fields, columns, "totalseats"), "totalSeats"));
+        request.setPrice(parseInt(field(fields, columns, "price"), "price"));
+        request.setImg(field(fields, columns, "img"));
+        return request;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size())
+            return null;
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        if (value == null)
+            return null;
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    private static Integer parseInt(String value, String name) {
+        if (value == null)
+            return null;
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and "" escapes
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted)
+            throw new IllegalArgumentException("Unterminated quoted field");
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class ImportProgress {
+        private long rowsRead;
+        private long imported;
+        private long failed;
+        private final List<ImportRowError> errors = new ArrayList<>();
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS)
+                errors.add(new ImportRowError(line, message));
+        }
+    }
+}
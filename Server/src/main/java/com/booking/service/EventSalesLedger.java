@@ -0,0 +1,110 @@
+package com.booking.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the event_sales totals and hourly sales_bucket rows in step with
+ * bookings. Every change to a booking's seats records its delta here in the
+ * same transaction, so the dashboard reads one row per event instead of
+ * summing bookings. {@link EventSalesReconciler} checks the totals against
+ * the booking table now and then.
+ */
+@Component
+public class EventSalesLedger {
+
+    private static final String SALES_SQL =
+            "INSERT INTO event_sales (event_id, booked_bookings, booked_seats, booked_amount, "
+            + "cancelled_bookings, cancelled_seats, cancelled_amount, "
+            + "expired_bookings, expired_seats, expired_amount, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+            + "booked_bookings = booked_bookings + VALUES(booked_bookings), "
+            + "booked_seats = booked_seats + VALUES(booked_seats), "
+            + "booked_amount = booked_amount + VALUES(booked_amount), "
+            + "cancelled_bookings = cancelled_bookings + VALUES(cancelled_bookings), "
+            + "cancelled_seats = cancelled_seats + VALUES(cancelled_seats), "
+            + "cancelled_amount = cancelled_amount + VALUES(cancelled_amount), "
+            + "expired_bookings = expired_bookings + VALUES(expired_bookings), "
+            + "expired_seats = expired_seats + VALUES(expired_seats), "
+            + "expired_amount = expired_amount + VALUES(expired_amount), "
+            + "updated_at = VALUES(updated_at)";
+
+    private static final String BUCKET_SQL =
+            "INSERT INTO sales_bucket (event_id, bucket_start, bookings, seats, amount, released_seats) "
+            + "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+            + "bookings = bookings + VALUES(bookings), seats = seats + VALUES(seats), "
+            + "amount = amount + VALUES(amount), released_seats = released_seats + VALUES(released_seats)";
+
+    // Offsets into an event's deltas: bookings, seats and amount of each kind of change
+    private static final int BOOKED = 0;
+    private static final int CANCELLED = 3;
+    private static final int EXPIRED = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventSalesLedger(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Deltas of one transaction, summed per event and written with one
+     * upsert per event, in event id order.
+     */
+    public final class Batch {
+
+        private final Map<Long, long[]> deltas = new TreeMap<>();
+
+        private Batch() {
+        }
+
+        public Batch booked(Long eventId, int seats, Integer amount) {
+            return add(eventId, BOOKED, seats, amount);
+        }
+
+        public Batch cancelled(Long eventId, int seats, Integer amount) {
+            return add(eventId, CANCELLED, seats, amount);
+        }
+
+        public Batch expired(Long eventId, int seats, Integer amount) {
+            return add(eventId, EXPIRED, seats, amount);
+        }
+
+        public void write() {
+            if (deltas.isEmpty())
+                return;
+
+            LocalDateTime now = LocalDateTime.now();
+            Timestamp updatedAt = Timestamp.valueOf(now);
+            Timestamp bucketStart = Timestamp.valueOf(now.truncatedTo(ChronoUnit.HOURS));
+            List<Object[]> sales = new ArrayList<>(deltas.size());
+            List<Object[]> buckets = new ArrayList<>(deltas.size());
+            deltas.forEach((eventId, d) -> {
+                sales.add(new Object[] { eventId, d[0], d[1], d[2], d[3], d[4], d[5], d[6], d[7], d[8], updatedAt });
+                buckets.add(new Object[] {
+                        eventId, bucketStart, d[BOOKED], d[BOOKED + 1], d[BOOKED + 2], d[CANCELLED + 1] + d[EXPIRED + 1] });
+            });
+            jdbcTemplate.batchUpdate(SALES_SQL, sales);
+            jdbcTemplate.batchUpdate(BUCKET_SQL, buckets);
+        }
+
+        private Batch add(Long eventId, int kind, int seats, Integer amount) {
+            long[] d = deltas.computeIfAbsent(eventId, id -> new long[9]);
+            d[kind]++;
+            d[kind + 1] += seats;
+            d[kind + 2] += amount == null ? 0 : amount;
+            return this;
+        }
+    }
+}
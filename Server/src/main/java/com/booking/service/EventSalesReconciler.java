@@ -0,0 +1,173 @@
+package com.booking.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.modal.BookingStatus;
+import com.booking.modal.EventSales;
+import com.booking.repository.BookingRepository;
+import com.booking.repository.BookingRepository.StatusTotals;
+import com.booking.repository.EventRepository;
+import com.booking.repository.EventSalesRepository;
+import com.booking.response.SalesReconciliationResponse;
+
+/**
+ * Checks the sales totals against the booking table, a chunk of events at a
+ * time, and corrects any that drifted. Also creates the rows of events that
+ * had bookings before the totals existed.
+ *
+ * A chunk's bookings are summed without locks, so booking writes carry on
+ * meanwhile. Only an event whose totals differ is checked again, in a short
+ * transaction of its own that locks its event_sales row and sums its
+ * bookings once more; a difference that was just a booking landing between
+ * the two reads is gone by then. Hourly buckets are not checked: bookings
+ * do not record when they were made.
+ */
+@Component
+public class EventSalesReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSalesReconciler.class);
+
+    private static final String CREATE_SQL =
+            "INSERT INTO event_sales (event_id, booked_bookings, booked_seats, booked_amount, "
+            + "cancelled_bookings, cancelled_seats, cancelled_amount, "
+            + "expired_bookings, expired_seats, expired_amount, updated_at) "
+            + "VALUES (?, 0, 0, 0, 0, 0, 0, 0, 0, 0, ?) ON DUPLICATE KEY UPDATE event_id = event_id";
+
+    private final EventRepository eventRepository;
+    private final EventSalesRepository eventSalesRepository;
+    private final BookingRepository bookingRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public EventSalesReconciler(EventRepository eventRepository,
+                                EventSalesRepository eventSalesRepository,
+                                BookingRepository bookingRepository,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${booking.sales.reconcile-chunk-size:100}") int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.eventSalesRepository = eventSalesRepository;
+        this.bookingRepository = bookingRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.sales.reconcile-interval-ms:3600000}",
+               initialDelayString = "${booking.sales.reconcile-initial-delay-ms:60000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            log.warn("Sales reconciliation failed, will retry", ex);
+        }
+    }
+
+    public synchronized SalesReconciliationResponse reconcile() {
+        long checked = 0;
+        long corrected = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> eventIds = eventRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (eventIds.isEmpty())
+                break;
+
+            corrected += reconcileChunk(eventIds);
+            checked += eventIds.size();
+            afterId = eventIds.get(eventIds.size() - 1);
+        }
+
+        if (corrected > 0)
+            log.warn("Sales reconciliation corrected {} of {} events", corrected, checked);
+        else
+            log.info("Sales reconciliation checked {} events", checked);
+        return new SalesReconciliationResponse(checked, corrected);
+    }
+
+    private int reconcileChunk(List<Long> eventIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(eventIds.size());
+        for (Long eventId : eventIds) {
+            args.add(new Object[] { eventId, now });
+        }
+        jdbcTemplate.batchUpdate(CREATE_SQL, args);
+
+        Map<Long, long[]> actual = sum(eventIds);
+        int corrected = 0;
+        for (EventSales row : eventSalesRepository.findAllById(eventIds)) {
+            if (Arrays.equals(stored(row), actual.getOrDefault(row.getEventId(), new long[9])))
+                continue;
+            if (transactionTemplate.execute(status -> correct(row.getEventId(), now)))
+                corrected++;
+        }
+        return corrected;
+    }
+
+    private boolean correct(Long eventId, Timestamp now) {
+        List<EventSales> locked = eventSalesRepository.findForUpdate(List.of(eventId));
+        if (locked.isEmpty())
+            return false;
+        EventSales row = locked.get(0);
+        long[] stored = stored(row);
+        long[] a = sum(List.of(eventId)).getOrDefault(eventId, new long[9]);
+        if (Arrays.equals(stored, a))
+            return false;
+
+        log.warn("Sales totals of event {} were {} instead of {}, corrected",
+                row.getEventId(), Arrays.toString(stored), Arrays.toString(a));
+        row.setBookedBookings(a[0]);
+        row.setBookedSeats(a[1]);
+        row.setBookedAmount(a[2]);
+        row.setCancelledBookings(a[3]);
+        row.setCancelledSeats(a[4]);
+        row.setCancelledAmount(a[5]);
+        row.setExpiredBookings(a[6]);
+        row.setExpiredSeats(a[7]);
+        row.setExpiredAmount(a[8]);
+        row.setUpdatedAt(now.toLocalDateTime());
+        return true;
+    }
+
+    // bookings, seats and amount of everything booked, then of the cancelled and the expired
+    private Map<Long, long[]> sum(List<Long> eventIds) {
+        Map<Long, long[]> actual = new HashMap<>();
+        for (StatusTotals totals : bookingRepository.sumByEventIdsAndStatus(eventIds)) {
+            long[] a = actual.computeIfAbsent(totals.getEventId(), id -> new long[9]);
+            add(a, 0, totals);
+            if (totals.getStatus() == BookingStatus.cancelled)
+                add(a, 3, totals);
+            else if (totals.getStatus() == BookingStatus.expired)
+                add(a, 6, totals);
+        }
+        return actual;
+    }
+
+    private static long[] stored(EventSales row) {
+        return new long[] {
+                row.getBookedBookings(), row.getBookedSeats(), row.getBookedAmount(),
+                row.getCancelledBookings(), row.getCancelledSeats(), row.getCancelledAmount(),
+                row.getExpiredBookings(), row.getExpiredSeats(), row.getExpiredAmount() };
+    }
+
+    private static void add(long[] a, int offset, StatusTotals totals) {
+        a[offset] += totals.getBookings();
+        a[offset + 1] += totals.getSeats();
+        a[offset + 2] += totals.getAmount();
+    }
+}
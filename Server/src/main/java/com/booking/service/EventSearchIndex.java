@@ -0,0 +1,379 @@
+package com.booking.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.booking.modal.Event;
+import com.booking.repository.EventRepository;
+import com.booking.repository.EventRepository.SearchableEvent;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process Lucene index over event title, description and location.
+ * It is rebuilt from the Event table at startup and then kept current by
+ * the event writes themselves; new documents become searchable at the next
+ * refresh, at most {@code events.search.refresh-ms} later.
+ *
+ * Every word of a query must match, exactly, with one or two typos, or (for
+ * the last word, as it is still being typed) as a prefix. Exact matches
+ * score highest and words in the title count double.
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String TEXT = "text";
+    private static final String DATE = "date";
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int REBUILD_BATCH = 5000;
+    private static final int ID_LOCKS = 64;
+
+    // Segments are kept sorted by date, so a date-ordered search stops after the first
+    // matches and equal scores come out soonest first
+    private static final Sort BY_DATE = new Sort(new SortedNumericSortField(DATE, SortField.Type.LONG));
+
+    private final EventRepository eventRepository;
+    private final int maxCandidates;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // Written while the startup rebuild runs; the rebuild must not overwrite them with older rows
+    private final Set<Long> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+    // Held around marking and writing an id, so the rebuild cannot check it, lose the
+    // race to a live write and then overwrite that write with its older row
+    private final Object[] idLocks = new Object[ID_LOCKS];
+    private volatile boolean rebuilding;
+
+    public EventSearchIndex(EventRepository eventRepository,
+                            @Value("${events.search.index-path:}") String indexPath,
+                            @Value("${events.search.max-candidates:10000}") int maxCandidates) throws IOException {
+        this.eventRepository = eventRepository;
+        this.maxCandidates = maxCandidates;
+        Arrays.setAll(idLocks, i -> new Object());
+        // Heap by default; a path keeps large catalogues in memory-mapped files instead
+        this.directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexPath));
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        config.setRAMBufferSizeMB(64);
+        config.setIndexSort(BY_DATE);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        Thread thread = new Thread(this::loadAll, "search-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    public void index(Event event) {
+        synchronized (idLock(event.getId())) {
+            if (rebuilding)
+                touchedDuringRebuild.add(event.getId());
+            write(event.getId(), event.getTitle(), event.getDescription(), event.getLocation(), event.getDate());
+        }
+    }
+
+    public void indexAll(List<Event> events) {
+        for (Event event : events) {
+            index(event);
+        }
+    }
+
+    public void delete(Long eventId) {
+        synchronized (idLock(eventId)) {
+            if (rebuilding)
+                touchedDuringRebuild.add(eventId);
+            try {
+                writer.deleteDocuments(new Term(ID, eventId.toString()));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Ids of the best matching events, best first, upcoming events ahead of
+     * past ones. With {@code byDate} the matches are ordered by event date
+     * instead of by score.
+     *
+     * Words are matched exactly first. Only when that finds fewer than
+     * {@code limit} events is the query run again with typo tolerance, since
+     * fuzzy matching is the expensive part and most queries do not need it.
+     */
+    public List<Long> search(String text, int limit, boolean byDate) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty())
+            throw new IllegalArgumentException("Search query must contain at least one word");
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = search(searcher, buildQuery(terms, false), limit, byDate);
+                if (hits.length < limit)
+                    hits = search(searcher, buildQuery(terms, true), limit, byDate);
+
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    ids.add(Long.valueOf(storedFields.document(hit.doc, Set.of(ID)).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.search.refresh-ms:500}")
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * Merges the index into a single segment and makes it searchable. Worth
+     * doing after a bulk load: each query then walks one set of postings
+     * instead of one per segment the load left behind.
+     */
+    public void compact() throws IOException {
+        writer.forceMerge(1);
+        searcherManager.maybeRefresh();
+    }
+
+    private ScoreDoc[] search(IndexSearcher searcher, Query query, int limit, boolean byDate) throws IOException {
+        if (byDate)
+            return searcher.search(query, limit, BY_DATE).scoreDocs;
+
+        // Common words can match most of the catalogue. Only the soonest
+        // maxCandidates matches of each segment are scored, which bounds the
+        // work per query however broad it is. Upcoming events are searched on
+        // their own first so the past ones, which sort ahead of them, do not
+        // use up the candidates; past events only fill what is left.
+        long now = System.currentTimeMillis();
+        ScoreDoc[] upcoming = searcher.search(during(query, now, Long.MAX_VALUE), new CappedManager(limit)).scoreDocs;
+        if (upcoming.length == limit)
+            return upcoming;
+        ScoreDoc[] past = searcher.search(during(query, Long.MIN_VALUE, now - 1),
+                new CappedManager(limit - upcoming.length)).scoreDocs;
+        ScoreDoc[] hits = Arrays.copyOf(upcoming, upcoming.length + past.length);
+        System.arraycopy(past, 0, hits, upcoming.length, past.length);
+        return hits;
+    }
+
+    private static Query during(Query query, long from, long to) {
+        return new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST)
+                .add(LongField.newRangeQuery(DATE, from, to), BooleanClause.Occur.FILTER)
+                .build();
+    }
+
+    private Object idLock(Long id) {
+        return idLocks[Math.floorMod(id.hashCode(), ID_LOCKS)];
+    }
+
+    // Every word must match the combined text field; words that are also in
+    // the title add to the score without having to be found there
+    private static Query buildQuery(List<String> terms, boolean fuzzy) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (int i = 0; i < terms.size(); i++) {
+            String word = terms.get(i);
+            Term term = new Term(TEXT, word);
+            boolean prefix = i == terms.size() - 1 && word.length() >= 2;
+            boolean typos = fuzzy && word.length() >= 4;
+
+            Query match = new TermQuery(term);
+            if (prefix || typos) {
+                BooleanQuery.Builder variants = new BooleanQuery.Builder();
+                variants.add(new BoostQuery(match, 2f), BooleanClause.Occur.SHOULD);
+                if (prefix)
+                    variants.add(new PrefixQuery(term), BooleanClause.Occur.SHOULD);
+                if (typos)
+                    variants.add(new FuzzyQuery(term, word.length() >= 8 ? 2 : 1, 1), BooleanClause.Occur.SHOULD);
+                match = variants.build();
+            }
+            query.add(match, BooleanClause.Occur.MUST);
+            query.add(new TermQuery(new Term(TITLE, word)), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(TEXT, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return terms;
+    }
+
+    private void loadAll() {
+        long started = System.currentTimeMillis();
+        long afterId = 0;
+        long indexed = 0;
+        try {
+            while (true) {
+                List<SearchableEvent> batch = eventRepository.findSearchBatch(afterId, PageRequest.of(0, REBUILD_BATCH));
+                if (batch.isEmpty())
+                    break;
+                for (SearchableEvent event : batch) {
+                    synchronized (idLock(event.getId())) {
+                        if (!touchedDuringRebuild.contains(event.getId()))
+                            write(event.getId(), event.getTitle(), event.getDescription(), event.getLocation(), event.getDate());
+                    }
+                }
+                indexed += batch.size();
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+            compact();
+            log.info("Search index built for {} events in {} ms", indexed, System.currentTimeMillis() - started);
+        } catch (IOException | RuntimeException ex) {
+            log.error("Search index rebuild failed after {} events", indexed, ex);
+        } finally {
+            rebuilding = false;
+            touchedDuringRebuild.clear();
+        }
+    }
+
+    private void write(Long id, String title, String description, String location, LocalDateTime date) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, nullToEmpty(title), Field.Store.NO));
+        document.add(new TextField(TEXT,
+                nullToEmpty(title) + "\n" + nullToEmpty(location) + "\n" + nullToEmpty(description), Field.Store.NO));
+        document.add(new LongField(DATE, date == null
+                ? Long.MAX_VALUE : date.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), Field.Store.NO));
+        try {
+            writer.updateDocument(new Term(ID, id.toString()), document);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    // Top hits by score, stopping each segment after maxCandidates matches
+    private final class CappedManager implements CollectorManager<CappedCollector, TopDocs> {
+        private final TopScoreDocCollectorManager top;
+
+        private CappedManager(int limit) {
+            this.top = new TopScoreDocCollectorManager(limit, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public CappedCollector newCollector() {
+            return new CappedCollector(top.newCollector());
+        }
+
+        @Override
+        public TopDocs reduce(Collection<CappedCollector> collectors) throws IOException {
+            return top.reduce(collectors.stream().map(collector -> collector.top).toList());
+        }
+    }
+
+    private final class CappedCollector extends FilterCollector {
+        private final TopScoreDocCollector top;
+
+        private CappedCollector(TopScoreDocCollector top) {
+            super(top);
+            this.top = top;
+        }
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+            return new FilterLeafCollector(super.getLeafCollector(context)) {
+                private int collected;
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    if (++collected > maxCandidates)
+                        throw new CollectionTerminatedException();
+                    super.collect(doc);
+                }
+            };
+        }
+    }
+}
@@ -2,12 +2,22 @@ package com.booking.service;
 
 import java.util.List;
 
+import com.booking.request.EventPageRequest;
 import com.booking.request.EventRequest;
+import com.booking.response.CacheStatsResponse;
+import com.booking.response.EventCatalogPayload;
+import com.booking.response.EventPageResponse;
 import com.booking.response.EventResponse;
 
 public interface EventService {
 	List<EventResponse> getAllEvents();
 
+	EventCatalogPayload getAllEventsEncoded();
+
+	EventPageResponse getEventPage(EventPageRequest request);
+
+	List<EventResponse> searchEvents(String query, int limit, String sort);
+
 	EventResponse getEventById(Long id);
 
 	EventResponse createEvent(EventRequest request);
@@ -16,4 +26,6 @@ public interface EventService {
 
 	void deleteEvent(Long id);
 
+	List<CacheStatsResponse> getCacheStats();
+
 }
\ No newline at end of file
@@ -1,35 +1,150 @@
 package com.booking.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.booking.modal.Event;
 import com.booking.repository.BookingRepository;
 import com.booking.repository.EventRepository;
+import com.booking.repository.EventSalesRepository;
+import com.booking.repository.SalesBucketRepository;
+import com.booking.repository.SeatMapRepository;
+import com.booking.request.EventPageRequest;
 import com.booking.request.EventRequest;
+import com.booking.response.CacheStatsResponse;
+import com.booking.response.EventCatalogPayload;
+import com.booking.response.EventPageResponse;
 import com.booking.response.EventResponse;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import jakarta.transaction.Transactional;
 
 @Service
 public class EventServiceImpl implements EventService {
 
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final EventRepository eventRepository;
     private final BookingRepository bookingRepository;
+    private final SeatInventory seatInventory;
+    private final SeatMapRepository seatMapRepository;
+    private final SeatMapInventory seatMapInventory;
+    private final EventSalesRepository eventSalesRepository;
+    private final SalesBucketRepository salesBucketRepository;
+    private final EventCatalogCache eventCatalogCache;
+    private final EventSearchIndex eventSearchIndex;
+
+    // Read latency by operation, cache hits included; cache_gets shows the hit ratio
+    private final Timer listTimer;
+    private final Timer encodedListTimer;
+    private final Timer pageTimer;
+    private final Timer byIdTimer;
+    private final Timer searchTimer;
 
-    public EventServiceImpl(EventRepository eventRepository, BookingRepository bookingRepository) {
+    public EventServiceImpl(EventRepository eventRepository, BookingRepository bookingRepository,
+                            SeatInventory seatInventory, SeatMapRepository seatMapRepository,
+                            SeatMapInventory seatMapInventory, EventSalesRepository eventSalesRepository,
+                            SalesBucketRepository salesBucketRepository, EventCatalogCache eventCatalogCache,
+                            EventSearchIndex eventSearchIndex, MeterRegistry meterRegistry) {
         this.eventRepository = eventRepository;
         this.bookingRepository = bookingRepository;
+        this.seatInventory = seatInventory;
+        this.seatMapRepository = seatMapRepository;
+        this.seatMapInventory = seatMapInventory;
+        this.eventSalesRepository = eventSalesRepository;
+        this.salesBucketRepository = salesBucketRepository;
+        this.eventCatalogCache = eventCatalogCache;
+        this.eventSearchIndex = eventSearchIndex;
+        this.listTimer = readTimer(meterRegistry, "list");
+        this.encodedListTimer = readTimer(meterRegistry, "list_encoded");
+        this.pageTimer = readTimer(meterRegistry, "page");
+        this.byIdTimer = readTimer(meterRegistry, "by_id");
+        this.searchTimer = readTimer(meterRegistry, "search");
+    }
+
+    private static Timer readTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("events.read")
+                .description("Event catalogue reads by operation")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
     }
 
     @Override
     public List<EventResponse> getAllEvents() {
-        return eventRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return listTimer.record(() -> eventCatalogCache.getAll(this::loadAllEvents));
+    }
+
+    @Override
+    public EventCatalogPayload getAllEventsEncoded() {
+        return encodedListTimer.record(() -> eventCatalogCache.getAllEncoded(this::loadAllEvents));
+    }
+
+    @Override
+    public EventPageResponse getEventPage(EventPageRequest request) {
+        return pageTimer.record(() -> loadPage(request));
+    }
+
+    private EventPageResponse loadPage(EventPageRequest request) {
+        LocalDateTime afterDate = null;
+        Long afterId = null;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            String[] cursor = decodeCursor(request.getCursor());
+            afterDate = LocalDateTime.parse(cursor[0]);
+            afterId = Long.valueOf(cursor[1]);
+        }
+
+        String location = request.getLocation() == null || request.getLocation().isBlank()
+                ? null : request.getLocation().trim();
+
+        // One extra row tells us whether another page exists without a COUNT query
+        int limit = request.getLimit();
+        List<Event> rows = eventRepository.findPage(
+                request.getFrom(),
+                request.getTo(),
+                location,
+                request.getMinPrice(),
+                request.getMaxPrice(),
+                request.isAvailable(),
+                afterDate,
+                afterId,
+                PageRequest.of(0, limit + 1));
+
+        boolean hasMore = rows.size() > limit;
+        List<Event> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        return new EventPageResponse(page.stream().map(this::mapToResponse).toList(), nextCursor);
+    }
+
+    @Override
+    public List<EventResponse> searchEvents(String query, int limit, String sort) {
+        if (query == null || query.isBlank())
+            throw new IllegalArgumentException("Search query must not be empty");
+        if (limit <= 0 || limit > MAX_SEARCH_RESULTS)
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        if (!"relevance".equals(sort) && !"date".equals(sort))
+            throw new IllegalArgumentException("Sort must be relevance or date");
+
+        List<Long> ids = searchTimer.record(() -> eventSearchIndex.search(query, limit, "date".equals(sort)));
+        List<EventResponse> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            try {
+                results.add(getEventById(id));
+            } catch (IllegalStateException ex) {
+                // Deleted since the index was last refreshed
+            }
+        }
+        return results;
     }
 
     @Override
@@ -53,24 +168,32 @@ public class EventServiceImpl implements EventService {
         event.setImg(request.getImg());
 
         Event saved = eventRepository.save(event);
+        seatInventory.register(saved.getId(), saved.getAvailableSeats());
+        eventCatalogCache.invalidate(saved.getId());
+        eventSearchIndex.index(saved);
         return mapToResponse(saved);
     }
 
     @Override
     public EventResponse getEventById(Long id) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new IllegalStateException("Event not found"));
-        return mapToResponse(event);
+        return byIdTimer.record(() -> eventCatalogCache.get(id, key -> eventRepository.findById(key)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new IllegalStateException("Event not found"))));
     }
 
     @Override
+    @Transactional
     public EventResponse updateEvent(Long id, EventRequest request) {
-        Event event = eventRepository.findById(id)
+        // Row lock keeps the seat write-back from interleaving with this update
+        Event event = eventRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new IllegalStateException("Event not found"));
 
         if (request.getTotalSeats() <= 0) {
             throw new IllegalArgumentException("Total seats must be greater than zero");
         }
+        if (!request.getTotalSeats().equals(event.getTotalSeats()) && seatMapInventory.hasSeatMap(id)) {
+            throw new IllegalArgumentException("Total seats of a reserved-seating event are set by its seat map");
+        }
 
         event.setTitle(request.getTitle());
         event.setDescription(request.getDescription());
@@ -80,12 +203,21 @@ public class EventServiceImpl implements EventService {
         int seatDifference = request.getTotalSeats() - event.getTotalSeats();
         event.setTotalSeats(request.getTotalSeats());
         event.setAvailableSeats(event.getAvailableSeats() + seatDifference);
+        seatInventory.adjust(id, seatDifference);
 
         event.setPrice(request.getPrice());
         event.setImg(request.getImg());
 
         Event updated = eventRepository.save(event);
-        return mapToResponse(updated);
+        eventCatalogCache.invalidate(id);
+        TransactionCallbacks.afterCommit(() -> eventSearchIndex.index(updated));
+
+        // A live counter only picks up the difference once this transaction commits;
+        // without one the row already has it
+        int live = seatInventory.getAvailableOrDefault(id, -1);
+        EventResponse response = mapToResponse(updated);
+        response.setAvailableSeats(live >= 0 ? live + seatDifference : updated.getAvailableSeats());
+        return response;
     }
 
     @Override
@@ -97,9 +229,47 @@ public class EventServiceImpl implements EventService {
       
         bookingRepository.deleteByEventId(event.getId());
         eventRepository.delete(event);
+        seatMapRepository.deleteById(id);
+        eventSalesRepository.deleteById(id);
+        salesBucketRepository.deleteByEventId(id);
+        seatInventory.remove(id);
+        seatMapInventory.remove(id);
+        eventCatalogCache.invalidate(id);
+        TransactionCallbacks.afterCommit(() -> eventSearchIndex.delete(id));
+    }
+
+    @Override
+    public List<CacheStatsResponse> getCacheStats() {
+        return eventCatalogCache.stats();
+    }
+
+    private List<EventResponse> loadAllEvents() {
+        return eventRepository.findAll()
+                .stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    private String encodeCursor(Event event) {
+        String cursor = event.getDate() + "|" + event.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("Invalid cursor");
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
-   
     private EventResponse mapToResponse(Event event) {
         return new EventResponse(
                 event.getId(),
@@ -107,7 +277,7 @@ public class EventServiceImpl implements EventService {
                 event.getDescription(),
                 event.getLocation(),
                 event.getDate(),
-                event.getAvailableSeats(),
+                seatInventory.getAvailableOrDefault(event.getId(), event.getAvailableSeats()),
                 event.getTotalSeats(),
                 event.getPrice(),
                 event.getImg()
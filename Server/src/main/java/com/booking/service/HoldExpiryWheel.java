@@ -0,0 +1,229 @@
+package com.booking.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.modal.BookingStatus;
+import com.booking.modal.OutboxEventType;
+import com.booking.repository.BookingRepository;
+import com.booking.repository.BookingRepository.HeldBooking;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Expires seat holds with a hashed timing wheel. Scheduling a hold is an
+ * enqueue; one thread advances the wheel once per tick and only looks at the
+ * holds in the current slot, so the cost does not grow with the number of
+ * holds outstanding.
+ *
+ * Confirmed or cancelled holds are not removed from the wheel. When their
+ * slot comes round the conditional status update simply skips them.
+ */
+@Component
+public class HoldExpiryWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(HoldExpiryWheel.class);
+
+    private final BookingRepository bookingRepository;
+    private final SeatInventory seatInventory;
+    private final SeatMapInventory seatMapInventory;
+    private final BookingOutbox outbox;
+    private final EventSalesLedger eventSales;
+    private final TransactionTemplate transactionTemplate;
+    private final long tickMillis;
+    private final int batchSize;
+
+    private final List<Queue<Hold>> slots;
+    private final int mask;
+
+    // Holds are handed to the wheel thread here, so only that thread touches slots
+    private final Queue<Hold> pending = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running;
+    private Thread worker;
+    private long startMillis;
+    private long tick;
+
+    public HoldExpiryWheel(BookingRepository bookingRepository,
+                           SeatInventory seatInventory,
+                           SeatMapInventory seatMapInventory,
+                           BookingOutbox outbox,
+                           EventSalesLedger eventSales,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${booking.hold.tick-ms:1000}") long tickMillis,
+                           @Value("${booking.hold.wheel-size:512}") int wheelSize,
+                           @Value("${booking.hold.batch-size:500}") int batchSize) {
+        if (Integer.bitCount(wheelSize) != 1)
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+
+        this.bookingRepository = bookingRepository;
+        this.seatInventory = seatInventory;
+        this.seatMapInventory = seatMapInventory;
+        this.outbox = outbox;
+        this.eventSales = eventSales;
+        this.transactionTemplate = transactionTemplate;
+        this.tickMillis = tickMillis;
+        this.batchSize = batchSize;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayDeque<>());
+        }
+        this.mask = wheelSize - 1;
+    }
+
+    // Holds outstanding from before a restart go back on the wheel
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<HeldBooking> holds = bookingRepository.findHolds(BookingStatus.held);
+        for (HeldBooking hold : holds) {
+            schedule(hold.getId(), hold.getHoldExpiresAt());
+        }
+        log.info("Hold expiry wheel started with {} holds", holds.size());
+
+        startMillis = System.currentTimeMillis();
+        running = true;
+        worker = new Thread(this::run, "hold-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    public void schedule(Long bookingId, LocalDateTime expiresAt) {
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        pending.add(new Hold(bookingId, deadline));
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                long nextTickAt = startMillis + (tick + 1) * tickMillis;
+                long sleep = nextTickAt - System.currentTimeMillis();
+                if (sleep > 0)
+                    Thread.sleep(sleep);
+
+                tick++;
+                transferPending();
+                List<Long> expired = expireSlot();
+                if (!expired.isEmpty())
+                    release(expired);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException ex) {
+                log.error("Hold expiry tick failed", ex);
+            }
+        }
+    }
+
+    private void transferPending() {
+        Hold hold;
+        while ((hold = pending.poll()) != null) {
+            // Deadlines already passed land in the current slot
+            long deadlineTick = Math.max(tick, Math.floorDiv(hold.deadline - startMillis + tickMillis - 1, tickMillis));
+            hold.rounds = (deadlineTick - tick) / slots.size();
+            slots.get((int) (deadlineTick & mask)).add(hold);
+        }
+    }
+
+    private List<Long> expireSlot() {
+        List<Long> expired = new ArrayList<>();
+        for (Iterator<Hold> it = slots.get((int) (tick & mask)).iterator(); it.hasNext();) {
+            Hold hold = it.next();
+            if (hold.rounds > 0) {
+                hold.rounds--;
+                continue;
+            }
+            it.remove();
+            expired.add(hold.bookingId);
+        }
+        return expired;
+    }
+
+    private void release(List<Long> bookingIds) {
+        for (int from = 0; from < bookingIds.size(); from += batchSize) {
+            List<Long> batch = bookingIds.subList(from, Math.min(from + batchSize, bookingIds.size()));
+            try {
+                int released = transactionTemplate.execute(status -> releaseBatch(batch));
+                if (released > 0)
+                    log.debug("Released {} expired holds", released);
+            } catch (RuntimeException ex) {
+                log.warn("Releasing {} expired holds failed, retrying next tick", batch.size(), ex);
+                long retryAt = System.currentTimeMillis() + tickMillis;
+                batch.forEach(id -> pending.add(new Hold(id, retryAt)));
+            }
+        }
+    }
+
+    private int releaseBatch(List<Long> bookingIds) {
+        // Row locks keep a concurrent confirm or cancel from also claiming these holds
+        List<HeldBooking> holds = bookingRepository.findHoldsForUpdate(bookingIds, BookingStatus.held);
+        if (holds.isEmpty())
+            return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<HeldBooking> expired = new ArrayList<>(holds.size());
+        List<Long> expiredIds = new ArrayList<>(holds.size());
+        Map<Long, Integer> seatsByEvent = new TreeMap<>();
+        for (HeldBooking hold : holds) {
+            if (hold.getHoldExpiresAt().isAfter(now)) {
+                schedule(hold.getId(), hold.getHoldExpiresAt());
+                continue;
+            }
+            expired.add(hold);
+            expiredIds.add(hold.getId());
+            seatsByEvent.merge(hold.getEventId(), hold.getSeats(), Integer::sum);
+        }
+        if (expiredIds.isEmpty())
+            return 0;
+
+        bookingRepository.updateStatusIn(expiredIds, List.of(BookingStatus.held), BookingStatus.expired);
+        // One write-back per event, applied after commit
+        seatsByEvent.forEach(seatInventory::release);
+        BookingOutbox.Batch events = outbox.batch();
+        EventSalesLedger.Batch sales = eventSales.batch();
+        for (HeldBooking hold : expired) {
+            seatMapInventory.release(hold.getEventId(), hold.getFirstSeat(), hold.getSeats());
+            events.add(OutboxEventType.BOOKING_EXPIRED, hold.getId(), hold.getEventId(), hold.getSeats());
+            sales.expired(hold.getEventId(), hold.getSeats(), hold.getTotalAmount());
+        }
+        events.write();
+        sales.write();
+        return expiredIds.size();
+    }
+
+    private static final class Hold {
+        private final Long bookingId;
+        private final long deadline;
+        private long rounds;
+
+        private Hold(Long bookingId, long deadline) {
+            this.bookingId = bookingId;
+            this.deadline = deadline;
+        }
+    }
+}
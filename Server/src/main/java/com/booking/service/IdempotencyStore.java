@@ -0,0 +1,150 @@
+package com.booking.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.booking.modal.IdempotencyRecord;
+import com.booking.repository.IdempotencyRecordRepository;
+import com.booking.response.BookingResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Remembers the outcome of keyed booking requests. Recent keys are answered
+ * from memory, including retries that arrive while the first attempt is
+ * still running. The idempotency_record row, with the response as it was
+ * sent, is written in the same transaction as the booking, so keys and
+ * their answers survive eviction and restarts.
+ */
+@Component
+public class IdempotencyStore implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(IdempotencyRecordRepository recordRepository,
+                            ObjectMapper objectMapper,
+                            @Value("${booking.idempotency.ttl-hours:24}") long ttlHours,
+                            @Value("${booking.idempotency.max-size:100000}") long maxSize) {
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, entries, "idempotency");
+    }
+
+    /**
+     * Returns the stored response for a key that has already completed, or
+     * null. Only looks in memory.
+     */
+    public BookingResponse findCompleted(String key, String fingerprint) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null || !entry.future.isDone() || entry.future.isCompletedExceptionally())
+            return null;
+        return await(entry, fingerprint);
+    }
+
+    /**
+     * Runs the booking once per key. Concurrent and later calls with the
+     * same key get the first call's response; a failed call is forgotten so
+     * it can be retried.
+     */
+    public BookingResponse execute(String key, String fingerprint, Supplier<BookingResponse> booking) {
+        Entry mine = new Entry(fingerprint);
+        Entry existing = entries.asMap().putIfAbsent(key, mine);
+        if (existing != null)
+            return await(existing, fingerprint);
+
+        try {
+            BookingResponse response = recordRepository.findById(key)
+                    .map(record -> replay(record, fingerprint))
+                    .orElseGet(booking);
+            mine.future.complete(response);
+            return response;
+        } catch (RuntimeException ex) {
+            entries.asMap().remove(key, mine);
+            mine.future.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * The response in the form it is kept in the idempotency record.
+     */
+    public String serialize(BookingResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialise booking response", ex);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgeExpired() {
+        int purged = recordRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (purged > 0)
+            log.info("Purged {} expired idempotency records", purged);
+    }
+
+    private BookingResponse replay(IdempotencyRecord record, String fingerprint) {
+        checkFingerprint(record.getRequestFingerprint(), fingerprint);
+        try {
+            return objectMapper.readValue(record.getResponse(), BookingResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not read stored booking response", ex);
+        }
+    }
+
+    private static BookingResponse await(Entry entry, String fingerprint) {
+        checkFingerprint(entry.fingerprint, fingerprint);
+        try {
+            return entry.future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw ex;
+        }
+    }
+
+    private static void checkFingerprint(String stored, String fingerprint) {
+        if (!stored.equals(fingerprint))
+            throw new IllegalArgumentException("Idempotency key was already used for a different booking request");
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<BookingResponse> future = new CompletableFuture<>();
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.booking.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class InMemoryAdmissionStore implements AdmissionStore {
+
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, QueueTicket> tickets = new ConcurrentHashMap<>();
+    private final Map<String, QueueTicket> ticketsByUser = new ConcurrentHashMap<>();
+
+    @Override
+    public QueueTicket issue(Long eventId, String userEmail, long now) {
+        QueueTicket ticket = ticketsByUser.computeIfAbsent(userKey(eventId, userEmail), key -> {
+            long position = hold(eventId).next();
+            QueueTicket issued = new QueueTicket(UUID.randomUUID().toString(), eventId, userEmail, position, now);
+            tickets.put(issued.getId(), issued);
+            return issued;
+        });
+        ticket.touch(now);
+        return ticket;
+    }
+
+    @Override
+    public QueueTicket find(String ticketId) {
+        return tickets.get(ticketId);
+    }
+
+    @Override
+    public void remove(QueueTicket ticket) {
+        if (tickets.remove(ticket.getId(), ticket))
+            drop(ticket);
+    }
+
+    @Override
+    public long admittedUpTo(Long eventId, double defaultRatePerSecond, long now) {
+        return queue(eventId).advance(defaultRatePerSecond, now);
+    }
+
+    @Override
+    public void setRate(Long eventId, double ratePerSecond) {
+        queue(eventId).rate = ratePerSecond;
+    }
+
+    @Override
+    public double getRate(Long eventId, double defaultRatePerSecond) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? defaultRatePerSecond : queue.rateOr(defaultRatePerSecond);
+    }
+
+    @Override
+    public int purgeIdle(long idleSince) {
+        int purged = 0;
+        for (QueueTicket ticket : tickets.values()) {
+            if (ticket.getLastSeenNanos() - idleSince < 0 && tickets.remove(ticket.getId(), ticket)) {
+                drop(ticket);
+                purged++;
+            }
+        }
+
+        // A queue nobody holds a ticket in and with no admin rate starts over as new
+        for (Long eventId : queues.keySet()) {
+            queues.computeIfPresent(eventId, (id, queue) ->
+                    queue.holders == 0 && Double.isNaN(queue.rate) ? null : queue);
+        }
+        return purged;
+    }
+
+    private EventQueue queue(Long eventId) {
+        return queues.computeIfAbsent(eventId, id -> new EventQueue());
+    }
+
+    // Counts a ticket against the queue so the purge keeps it
+    private EventQueue hold(Long eventId) {
+        return queues.compute(eventId, (id, queue) -> {
+            EventQueue held = queue == null ? new EventQueue() : queue;
+            held.holders++;
+            return held;
+        });
+    }
+
+    private void drop(QueueTicket ticket) {
+        ticketsByUser.remove(userKey(ticket.getEventId(), ticket.getUserEmail()), ticket);
+        queues.computeIfPresent(ticket.getEventId(), (id, queue) -> {
+            queue.holders--;
+            return queue;
+        });
+    }
+
+    private static String userKey(Long eventId, String userEmail) {
+        return eventId + ":" + userEmail;
+    }
+
+    private static final class EventQueue {
+
+        private long issued;
+        // Tickets still out; only changed inside the queues map's compute calls
+        private int holders;
+        private double admitted;
+        // Starts a second back so the first arrival at a new queue goes straight in
+        private long lastAdvanceNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+
+        // NaN until an admin overrides the default rate for this event
+        private volatile double rate = Double.NaN;
+
+        synchronized long next() {
+            return ++issued;
+        }
+
+        synchronized long advance(double defaultRate, long now) {
+            double elapsedSeconds = (now - lastAdvanceNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            lastAdvanceNanos = now;
+            admitted = Math.min(issued, admitted + elapsedSeconds * rateOr(defaultRate));
+            return (long) admitted;
+        }
+
+        double rateOr(double defaultRate) {
+            return Double.isNaN(rate) ? defaultRate : rate;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.booking.service;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Token buckets in front of POST /auth/login, one per client address and
+ * one per account, each refilled at its limit per minute and holding at
+ * most a minute's worth. An attempt needs a token from both, so a single
+ * address cannot spray many accounts and many addresses cannot hammer
+ * one account. Idle buckets are full again and are simply forgotten.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Cache<String, TokenBucket> byAddress;
+    private final Cache<String, TokenBucket> byAccount;
+    private final double addressPerMinute;
+    private final double accountPerMinute;
+
+    private final Counter addressRejections;
+    private final Counter accountRejections;
+
+    public LoginRateLimiter(@Value("${auth.login.ip-per-minute:60}") double addressPerMinute,
+                            @Value("${auth.login.account-per-minute:10}") double accountPerMinute,
+                            @Value("${auth.login.max-tracked:100000}") long maxTracked,
+                            MeterRegistry meterRegistry) {
+        this.addressPerMinute = addressPerMinute;
+        this.accountPerMinute = accountPerMinute;
+        this.byAddress = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterAccess(1, TimeUnit.MINUTES)
+                .build();
+        this.byAccount = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterAccess(1, TimeUnit.MINUTES)
+                .build();
+        this.addressRejections = rejections(meterRegistry, "ip");
+        this.accountRejections = rejections(meterRegistry, "account");
+    }
+
+    /**
+     * Takes a login attempt from both buckets.
+     *
+     * @return 0 when the attempt may go ahead, otherwise the seconds until it may be retried
+     */
+    public long tryAcquire(String email, String address) {
+        long now = System.nanoTime();
+        TokenBucket addressBucket = byAddress.get(address, key -> new TokenBucket(addressPerMinute, now));
+        long wait = addressBucket.take(now);
+        if (wait > 0) {
+            addressRejections.increment();
+            return seconds(wait);
+        }
+
+        String account = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        wait = byAccount.get(account, key -> new TokenBucket(accountPerMinute, now)).take(now);
+        if (wait > 0) {
+            // The address is not charged for an attempt that never ran
+            addressBucket.giveBack();
+            accountRejections.increment();
+            return seconds(wait);
+        }
+        return 0;
+    }
+
+    private static long seconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String limit) {
+        return Counter.builder("auth.login.rejections")
+                .description("Login attempts turned away by the rate limiter")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+
+    private static final class TokenBucket {
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double perMinute, long now) {
+            this.capacity = perMinute;
+            this.tokensPerNano = perMinute / TimeUnit.MINUTES.toNanos(1);
+            this.tokens = perMinute;
+            this.refilledAt = now;
+        }
+
+        // Nanoseconds until a token is available, 0 once one has been taken
+        synchronized long take(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens--;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        synchronized void giveBack() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.booking.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.booking.modal.OutboxEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process bus between the outbox relay and its subscribers. Each
+ * subscriber has its own thread and a bounded queue of batches, so a slow
+ * subscriber neither holds up the others nor builds up an unbounded
+ * backlog on the heap: once its queue is full, publishing fails and the
+ * events wait in the outbox table instead.
+ */
+@Component
+public class OutboxEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxEventBus.class);
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    public OutboxEventBus(ObjectProvider<OutboxSubscriber> subscribers,
+                          @Value("${booking.outbox.queue-capacity:16}") int queueCapacity,
+                          MeterRegistry meterRegistry) {
+        subscribers.orderedStream().forEach(subscriber -> {
+            String name = AopUtils.getTargetClass(subscriber).getSimpleName();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, "outbox-" + name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            Timer handle = Timer.builder("outbox.subscriber.handle")
+                    .description("Time a subscriber takes to handle a batch of outbox events")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            subscriptions.add(new Subscription(name, subscriber, executor, handle));
+        });
+        log.info("Outbox event bus started with {} subscribers", subscriptions.size());
+    }
+
+    /**
+     * Hands the events to every subscriber that accepts any of them. The
+     * result completes once all of them have handled their share, and fails
+     * if any subscriber threw or had no room for the batch.
+     */
+    public CompletableFuture<Void> publish(List<OutboxEvent> events) {
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(subscriptions.size());
+        for (Subscription subscription : subscriptions) {
+            List<OutboxEvent> accepted = new ArrayList<>(events.size());
+            for (OutboxEvent event : events) {
+                if (subscription.subscriber.accepts(event.getType()))
+                    accepted.add(event);
+            }
+            if (accepted.isEmpty())
+                continue;
+
+            try {
+                deliveries.add(CompletableFuture.runAsync(
+                        () -> subscription.handle.record(() -> subscription.subscriber.onEvents(accepted)),
+                        subscription.executor));
+            } catch (RejectedExecutionException ex) {
+                deliveries.add(CompletableFuture.failedFuture(
+                        new RejectedExecutionException("Subscriber " + subscription.name + " is falling behind", ex)));
+            }
+        }
+        return CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Subscription subscription : subscriptions) {
+            subscription.executor.shutdown();
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static final class Subscription {
+        private final String name;
+        private final OutboxSubscriber subscriber;
+        private final ThreadPoolExecutor executor;
+        private final Timer handle;
+
+        private Subscription(String name, OutboxSubscriber subscriber, ThreadPoolExecutor executor, Timer handle) {
+            this.name = name;
+            this.subscriber = subscriber;
+            this.executor = executor;
+            this.handle = handle;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.booking.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.booking.modal.OutboxEvent;
+import com.booking.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Drains the outbox table to {@link OutboxEventBus}, oldest rows first. A
+ * batch is deleted only after every subscriber has handled it, and the next
+ * batch is read only then, so the backlog stays in the table rather than in
+ * memory when subscribers fall behind.
+ *
+ * A batch a subscriber fails on is retried event by event, so one bad event
+ * does not hold back the rest; each failure counts against that event's
+ * attempts. A subscriber that is merely slow costs no attempts, the batch
+ * is tried again after the retry delay.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final BookingOutbox outbox;
+    private final OutboxEventBus eventBus;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long pollMillis;
+    private final long retryDelayMillis;
+    private final long deliveryTimeoutMillis;
+
+    private final Timer deliveryLag;
+    private final Counter deliveryFailures;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       BookingOutbox outbox,
+                       OutboxEventBus eventBus,
+                       @Value("${booking.outbox.batch-size:500}") int batchSize,
+                       @Value("${booking.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${booking.outbox.poll-interval-ms:1000}") long pollMillis,
+                       @Value("${booking.outbox.retry-delay-ms:5000}") long retryDelayMillis,
+                       @Value("${booking.outbox.delivery-timeout-ms:30000}") long deliveryTimeoutMillis,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outbox = outbox;
+        this.eventBus = eventBus;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.pollMillis = pollMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.deliveryTimeoutMillis = deliveryTimeoutMillis;
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+                .description("Time from an outbox event's commit to its delivery to every subscriber")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.deliveryFailures = Counter.builder("outbox.delivery.failures")
+                .description("Outbox events whose delivery failed and will be retried")
+                .register(meterRegistry);
+    }
+
+    // Rows left over from before a restart are delivered first
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<OutboxEvent> batch = outboxEventRepository.findPending(maxAttempts, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    outbox.awaitAppended(pollMillis);
+                    continue;
+                }
+                if (!deliver(batch))
+                    Thread.sleep(retryDelayMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException ex) {
+                log.error("Outbox relay failed", ex);
+                try {
+                    Thread.sleep(retryDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean deliver(List<OutboxEvent> batch) throws InterruptedException {
+        try {
+            eventBus.publish(batch).get(deliveryTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("Outbox subscribers took over {} ms for {} events, retrying", deliveryTimeoutMillis, batch.size());
+            return false;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RejectedExecutionException) {
+                log.warn("Outbox delivery of {} events postponed: {}", batch.size(), ex.getCause().getMessage());
+                return false;
+            }
+            if (batch.size() == 1) {
+                failed(batch.get(0), ex.getCause());
+                return false;
+            }
+            log.warn("Outbox delivery of {} events failed, retrying one by one", batch.size(), ex.getCause());
+            boolean delivered = true;
+            for (OutboxEvent event : batch) {
+                delivered &= deliver(List.of(event));
+            }
+            return delivered;
+        }
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : batch) {
+            ids.add(event.getId());
+            deliveryLag.record(Duration.between(event.getCreatedAt(), now));
+        }
+        outboxEventRepository.deleteAllByIdInBatch(ids);
+        return true;
+    }
+
+    private void failed(OutboxEvent event, Throwable cause) {
+        deliveryFailures.increment();
+        outboxEventRepository.incrementAttempts(List.of(event.getId()));
+        int attempts = event.getAttempts() + 1;
+        if (attempts >= maxAttempts)
+            log.error("Outbox event {} ({} of booking {}) failed {} times, giving up",
+                    event.getId(), event.getType(), event.getBookingId(), attempts, cause);
+        else
+            log.warn("Outbox event {} ({} of booking {}) failed, attempt {} of {}",
+                    event.getId(), event.getType(), event.getBookingId(), attempts, maxAttempts, cause);
+    }
+}
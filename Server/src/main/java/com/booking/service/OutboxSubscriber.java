@@ -0,0 +1,24 @@
+package com.booking.service;
+
+import java.util.List;
+
+import com.booking.modal.OutboxEvent;
+import com.booking.modal.OutboxEventType;
+
+/**
+ * Receives booking events from the outbox. Every Spring bean implementing
+ * this is subscribed to {@link OutboxEventBus}.
+ *
+ * Delivery is at least once: a batch that fails for any subscriber is
+ * delivered again, to every subscriber, so handlers must tolerate
+ * duplicates. Events arrive roughly in commit order, not strictly.
+ */
+public interface OutboxSubscriber {
+
+    default boolean accepts(OutboxEventType type) {
+        return true;
+    }
+
+    // Called on the subscriber's own thread, never concurrently with itself
+    void onEvents(List<OutboxEvent> events);
+}
@@ -0,0 +1,102 @@
+package com.booking.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs password checks off the request threads, on a fixed pool with a
+ * bounded queue. BCrypt is CPU-bound by design, so a login storm beyond
+ * what the pool can hash is turned away at once instead of piling up on
+ * Tomcat threads that booking traffic needs. A check that has already
+ * waited longer than its client is likely to is dropped unrun.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+
+    private final Timer hashTime;
+    private final Timer queueWait;
+    private final Counter rejections;
+
+    public PasswordHashingExecutor(@Value("${auth.hashing.threads:0}") int threads,
+                                   @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${auth.hashing.max-wait-ms:2000}") long maxWaitMs,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+
+        this.hashTime = Timer.builder("auth.hashing.time")
+                .description("Time to run a password check on the hashing pool")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("auth.hashing.wait")
+                .description("Time a password check waits for a hashing thread")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.hashing.rejections")
+                .description("Password checks turned away because the hashing pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.queue", executor, pool -> pool.getQueue().size())
+                .description("Password checks waiting for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the task on the hashing pool. The result fails with a
+     * {@link RejectedExecutionException} when the queue is full or the
+     * task waited in it too long.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long waited = System.nanoTime() - queuedAt;
+                queueWait.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > maxWaitNanos) {
+                    rejections.increment();
+                    result.completeExceptionally(new RejectedExecutionException("Password check waited too long"));
+                    return;
+                }
+                try {
+                    result.complete(hashTime.record(task));
+                } catch (RuntimeException ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejections.increment();
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,49 @@
+package com.booking.service;
+
+/**
+ * A place in an event's waiting room. Positions are handed out in arrival
+ * order and never change; the ticket is admitted once the event's admission
+ * watermark reaches its position.
+ */
+public class QueueTicket {
+
+    private final String id;
+    private final Long eventId;
+    private final String userEmail;
+    private final long position;
+
+    // Refreshed by status polls, used to drop tickets whose holder went away
+    private volatile long lastSeenNanos;
+
+    public QueueTicket(String id, Long eventId, String userEmail, long position, long now) {
+        this.id = id;
+        this.eventId = eventId;
+        this.userEmail = userEmail;
+        this.position = position;
+        this.lastSeenNanos = now;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getLastSeenNanos() {
+        return lastSeenNanos;
+    }
+
+    public void touch(long now) {
+        this.lastSeenNanos = now;
+    }
+}
@@ -0,0 +1,22 @@
+package com.booking.service;
+
+import java.util.List;
+
+import com.booking.response.EventSalesResponse;
+import com.booking.response.LocationSalesResponse;
+import com.booking.response.SalesBucketResponse;
+import com.booking.response.SalesReconciliationResponse;
+
+public interface SalesAnalyticsService {
+
+	List<EventSalesResponse> getTopEvents(String sort, int limit);
+
+	EventSalesResponse getEventSales(Long eventId);
+
+	List<SalesBucketResponse> getSalesRate(Long eventId, int hours);
+
+	List<LocationSalesResponse> getLocationSales();
+
+	SalesReconciliationResponse reconcile();
+
+}
@@ -0,0 +1,96 @@
+package com.booking.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.booking.repository.EventRepository;
+import com.booking.repository.EventSalesRepository;
+import com.booking.repository.SalesBucketRepository;
+import com.booking.response.EventSalesResponse;
+import com.booking.response.LocationSalesResponse;
+import com.booking.response.SalesBucketResponse;
+import com.booking.response.SalesReconciliationResponse;
+
+// Reads only the precomputed sales rows: one per event, or one per event and hour
+@Service
+public class SalesAnalyticsServiceImpl implements SalesAnalyticsService {
+
+    private static final int MAX_LIMIT = 500;
+    // Ninety days of hourly buckets
+    private static final int MAX_HOURS = 24 * 90;
+
+    private final EventSalesRepository eventSalesRepository;
+    private final SalesBucketRepository salesBucketRepository;
+    private final EventRepository eventRepository;
+    private final EventSalesReconciler reconciler;
+
+    public SalesAnalyticsServiceImpl(EventSalesRepository eventSalesRepository,
+                                     SalesBucketRepository salesBucketRepository,
+                                     EventRepository eventRepository,
+                                     EventSalesReconciler reconciler) {
+        this.eventSalesRepository = eventSalesRepository;
+        this.salesBucketRepository = salesBucketRepository;
+        this.eventRepository = eventRepository;
+        this.reconciler = reconciler;
+    }
+
+    @Override
+    public List<EventSalesResponse> getTopEvents(String sort, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT)
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+
+        PageRequest page = PageRequest.of(0, limit);
+        return switch (sort) {
+            case "revenue" -> eventSalesRepository.findTopByRevenue(page);
+            case "seats" -> eventSalesRepository.findTopBySoldSeats(page);
+            default -> throw new IllegalArgumentException("Sort must be revenue or seats");
+        };
+    }
+
+    @Override
+    public EventSalesResponse getEventSales(Long eventId) {
+        return eventSalesRepository.findResponseByEventId(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+    }
+
+    // One entry per hour, oldest first, with zeros for hours without bookings
+    @Override
+    public List<SalesBucketResponse> getSalesRate(Long eventId, int hours) {
+        if (hours < 1 || hours > MAX_HOURS)
+            throw new IllegalArgumentException("Hours must be between 1 and " + MAX_HOURS);
+        if (!eventRepository.existsById(eventId))
+            throw new IllegalStateException("Event not found");
+
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(hours - 1);
+        Iterator<SalesBucketResponse> stored = salesBucketRepository.findResponses(eventId, from).iterator();
+        SalesBucketResponse next = stored.hasNext() ? stored.next() : null;
+
+        List<SalesBucketResponse> rate = new ArrayList<>(hours);
+        for (int i = 0; i < hours; i++) {
+            LocalDateTime hour = from.plusHours(i);
+            if (next != null && next.getBucketStart().equals(hour)) {
+                rate.add(next);
+                next = stored.hasNext() ? stored.next() : null;
+            } else {
+                rate.add(new SalesBucketResponse(hour, 0L, 0L, 0L, 0L));
+            }
+        }
+        return rate;
+    }
+
+    @Override
+    public List<LocationSalesResponse> getLocationSales() {
+        return eventSalesRepository.findLocationTotals();
+    }
+
+    @Override
+    public SalesReconciliationResponse reconcile() {
+        return reconciler.reconcile();
+    }
+}
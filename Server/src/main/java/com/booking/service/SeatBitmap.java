@@ -0,0 +1,322 @@
+package com.booking.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Seat map of one event: sections of equal rows, and one bit per seat that
+ * is set while the seat is taken. Seats are numbered section by section,
+ * row by row, so a row is a contiguous run of bits and N adjacent seats are
+ * N adjacent bits. An 80,000 seat stadium takes 10 KB.
+ *
+ * Seats are claimed with a compare-and-set per 64-bit word; a claim that
+ * finds one of its seats already taken undoes the words it has set and the
+ * row is scanned again.
+ */
+public final class SeatBitmap {
+
+    private final String[] sections;
+    private final int[] sectionStart;
+    private final int[] rows;
+    private final int[] seatsPerRow;
+    private final int size;
+
+    private final AtomicLongArray words;
+    // Bumped on every change; a persisted copy only replaces one with a lower revision
+    private final AtomicLong revision;
+
+    private SeatBitmap(String[] sections, int[] rows, int[] seatsPerRow, long revision) {
+        this.sections = sections;
+        this.rows = rows;
+        this.seatsPerRow = seatsPerRow;
+        this.sectionStart = new int[sections.length];
+        int seats = 0;
+        for (int i = 0; i < sections.length; i++) {
+            sectionStart[i] = seats;
+            seats += rows[i] * seatsPerRow[i];
+        }
+        this.size = seats;
+        this.words = new AtomicLongArray((seats + 63) >>> 6);
+        this.revision = new AtomicLong(revision);
+    }
+
+    /**
+     * Empty map for a layout written as {@code name:rowsxseats} per section,
+     * comma separated, best section first, e.g. {@code A:20x30,B:40x25}.
+     */
+    public static SeatBitmap empty(String layout, long revision) {
+        String[] parts = layout.split(",");
+        String[] sections = new String[parts.length];
+        int[] rows = new int[parts.length];
+        int[] seatsPerRow = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            int colon = parts[i].indexOf(':');
+            int x = parts[i].indexOf('x', colon);
+            if (colon <= 0 || x < 0)
+                throw new IllegalArgumentException("Invalid seat layout: " + parts[i]);
+            sections[i] = parts[i].substring(0, colon);
+            rows[i] = Integer.parseInt(parts[i].substring(colon + 1, x));
+            seatsPerRow[i] = Integer.parseInt(parts[i].substring(x + 1));
+        }
+        return new SeatBitmap(sections, rows, seatsPerRow, revision);
+    }
+
+    public static SeatBitmap of(String layout, byte[] taken, long revision) {
+        SeatBitmap bitmap = empty(layout, revision);
+        if (taken != null) {
+            ByteBuffer buffer = ByteBuffer.allocate(bitmap.words.length() * 8).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(taken, 0, Math.min(taken.length, buffer.capacity()));
+            for (int w = 0; w < bitmap.words.length(); w++) {
+                bitmap.words.set(w, buffer.getLong(w * 8));
+            }
+        }
+        return bitmap;
+    }
+
+    public static String layout(List<String> sections, List<Integer> rows, List<Integer> seatsPerRow) {
+        StringBuilder layout = new StringBuilder();
+        for (int i = 0; i < sections.size(); i++) {
+            if (i > 0)
+                layout.append(',');
+            layout.append(sections.get(i)).append(':').append(rows.get(i)).append('x').append(seatsPerRow.get(i));
+        }
+        return layout.toString();
+    }
+
+    /**
+     * Claims {@code count} adjacent seats in the best row that has them:
+     * the first section (or only {@code section}, when given), front row
+     * first, as close to the middle of the row as possible.
+     *
+     * @return index of the first claimed seat, or -1 when no row has that many adjacent seats free
+     */
+    public int claimBestAvailable(int count, String section) {
+        for (int s = 0; s < sections.length; s++) {
+            if (section != null && !sections[s].equals(section))
+                continue;
+            if (count > seatsPerRow[s])
+                continue;
+            for (int r = 0; r < rows[s]; r++) {
+                int rowStart = sectionStart[s] + r * seatsPerRow[s];
+                int rowEnd = rowStart + seatsPerRow[s];
+                int first;
+                while (hasRun(rowStart, rowEnd, count) && (first = bestRun(rowStart, rowEnd, count)) >= 0) {
+                    if (claim(first, count))
+                        return first;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public void release(int first, int count) {
+        clear(first, first + count);
+        revision.incrementAndGet();
+    }
+
+    // Marks seats taken without checking them, for rebuilding a map from its bookings
+    void take(int first, int count) {
+        int end = first + count;
+        for (int i = first; i < end; ) {
+            int w = i >>> 6;
+            int bitsInWord = Math.min(end, (w + 1) << 6) - i;
+            long mask = mask(i, bitsInWord);
+            long current;
+            do {
+                current = words.get(w);
+            } while (!words.compareAndSet(w, current, current | mask));
+            i += bitsInWord;
+        }
+        revision.incrementAndGet();
+    }
+
+    public boolean hasSection(String section) {
+        for (String name : sections) {
+            if (name.equals(section))
+                return true;
+        }
+        return false;
+    }
+
+    public List<String> labels(int first, int count) {
+        int s = sections.length - 1;
+        while (sectionStart[s] > first) {
+            s--;
+        }
+        List<String> labels = new ArrayList<>(count);
+        int offset = first - sectionStart[s];
+        for (int i = 0; i < count; i++) {
+            int seat = offset + i;
+            labels.add(sections[s] + "-" + (seat / seatsPerRow[s] + 1) + "-" + (seat % seatsPerRow[s] + 1));
+        }
+        return labels;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int free() {
+        int taken = 0;
+        for (int w = 0; w < words.length(); w++) {
+            taken += Long.bitCount(words.get(w));
+        }
+        return size - taken;
+    }
+
+    public long revision() {
+        return revision.get();
+    }
+
+    public List<String> sections() {
+        return List.of(sections);
+    }
+
+    public int sectionStart(int section) {
+        return sectionStart[section];
+    }
+
+    public int rows(int section) {
+        return rows[section];
+    }
+
+    public int seatsPerRow(int section) {
+        return seatsPerRow[section];
+    }
+
+    /**
+     * Bit {@code i} of the map is bit {@code i % 8} of byte {@code i / 8}.
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length() * 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (int w = 0; w < words.length(); w++) {
+            buffer.putLong(words.get(w));
+        }
+        byte[] bytes = new byte[(size + 7) >>> 3];
+        buffer.flip().get(bytes);
+        return bytes;
+    }
+
+    // Whether [rowStart, rowEnd) has count free seats together, a few word operations
+    // per row; a full row is passed over without looking at its runs one by one
+    private boolean hasRun(int rowStart, int rowEnd, int count) {
+        int carried = 0;
+        for (int w = rowStart >>> 6; w << 6 < rowEnd; w++) {
+            long free = ~words.get(w) & rowMask(w, rowStart, rowEnd);
+            if (free == -1L) {
+                carried += 64;
+                if (carried >= count)
+                    return true;
+                continue;
+            }
+            if (carried + Long.numberOfTrailingZeros(~free) >= count)
+                return true;
+            // Bit i survives while bits i to i + n - 1 are all free, for n growing to count
+            long runs = free;
+            for (int n = 1; n < count && runs != 0; ) {
+                int shift = Math.min(n, count - n);
+                runs &= runs >>> shift;
+                n += shift;
+            }
+            if (runs != 0)
+                return true;
+            carried = Long.numberOfLeadingZeros(~free);
+        }
+        return false;
+    }
+
+    private static long rowMask(int w, int rowStart, int rowEnd) {
+        int from = Math.max(rowStart - (w << 6), 0);
+        int to = Math.min(rowEnd - (w << 6), 64);
+        return mask(from, to - from);
+    }
+
+    // Start of the free run of at least count seats in [rowStart, rowEnd) whose
+    // placement is nearest the middle of the row, or -1
+    private int bestRun(int rowStart, int rowEnd, int count) {
+        int middle = rowStart + (rowEnd - rowStart - count) / 2;
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        int from = rowStart;
+        while (from < rowEnd) {
+            int runStart = nextClear(from, rowEnd);
+            if (runStart >= rowEnd)
+                break;
+            int runEnd = nextSet(runStart, rowEnd);
+            if (runEnd - runStart >= count) {
+                int placed = Math.max(runStart, Math.min(middle, runEnd - count));
+                int distance = Math.abs(placed - middle);
+                if (distance < bestDistance) {
+                    best = placed;
+                    bestDistance = distance;
+                }
+            }
+            from = runEnd;
+        }
+        return best;
+    }
+
+    private boolean claim(int first, int count) {
+        int end = first + count;
+        for (int i = first; i < end; ) {
+            int w = i >>> 6;
+            int bitsInWord = Math.min(end, (w + 1) << 6) - i;
+            long mask = mask(i, bitsInWord);
+            long current;
+            do {
+                current = words.get(w);
+                if ((current & mask) != 0) {
+                    clear(first, i);
+                    return false;
+                }
+            } while (!words.compareAndSet(w, current, current | mask));
+            i += bitsInWord;
+        }
+        revision.incrementAndGet();
+        return true;
+    }
+
+    private void clear(int first, int end) {
+        for (int i = first; i < end; ) {
+            int w = i >>> 6;
+            int bitsInWord = Math.min(end, (w + 1) << 6) - i;
+            long mask = mask(i, bitsInWord);
+            long current;
+            do {
+                current = words.get(w);
+            } while (!words.compareAndSet(w, current, current & ~mask));
+            i += bitsInWord;
+        }
+    }
+
+    private int nextClear(int from, int end) {
+        int w = from >>> 6;
+        long word = ~words.get(w) & (-1L << from);
+        while (word == 0) {
+            if (++w << 6 >= end)
+                return end;
+            word = ~words.get(w);
+        }
+        return Math.min(end, (w << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    private int nextSet(int from, int end) {
+        int w = from >>> 6;
+        long word = words.get(w) & (-1L << from);
+        while (word == 0) {
+            if (++w << 6 >= end)
+                return end;
+            word = words.get(w);
+        }
+        return Math.min(end, (w << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    private static long mask(int from, int bits) {
+        long mask = bits == 64 ? -1L : (1L << bits) - 1;
+        return mask << from;
+    }
+}
@@ -0,0 +1,214 @@
+package com.booking.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.modal.BookingStatus;
+import com.booking.repository.EventRepository;
+import com.booking.repository.EventRepository.SeatTally;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process seat counters for every event. Seats are reserved with a
+ * compare-and-set on the event's counter instead of a row lock. Released
+ * seats are written back to the Event table in batches; bookings update the
+ * row themselves through {@link BookingBatchWriter}.
+ *
+ * The counters are authoritative for a single application node. Released
+ * seats reach the Event row one flush later and are lost from it if the node
+ * stops first, so a counter is loaded as the event's total seats less those
+ * of its active bookings, and a row found off by that is corrected.
+ */
+@Component
+public class SeatInventory {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatInventory.class);
+
+    private static final String ADJUST_SQL =
+            "UPDATE event SET available_seats = available_seats + ? WHERE id = ?";
+
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, AtomicInteger> available = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> pendingWrites = new ConcurrentHashMap<>();
+
+    // Events whose counter moved since the last drain; a set, so a burst costs one entry
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+
+    public SeatInventory(EventRepository eventRepository,
+                         JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate) {
+        this.eventRepository = eventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<SeatTally> tallies = eventRepository.findAllSeatTallies(BookingStatus.ACTIVE);
+        for (SeatTally tally : tallies) {
+            available.computeIfAbsent(tally.getId(), id -> new AtomicInteger(load(tally)));
+        }
+        log.info("Seat inventory loaded for {} events", tallies.size());
+    }
+
+    /**
+     * Takes seats off the event's counter. The caller owns writing the
+     * decrement to the Event row, or handing the seats back with
+     * {@link #restore} if the booking is not stored.
+     */
+    public boolean tryReserve(Long eventId, int seats) {
+        AtomicInteger counter = counter(eventId);
+        int current;
+        do {
+            current = counter.get();
+            if (current < seats) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current - seats));
+        changed.add(eventId);
+        return true;
+    }
+
+    public void restore(Long eventId, int seats) {
+        counter(eventId).addAndGet(seats);
+        changed.add(eventId);
+    }
+
+    /**
+     * Returns seats to the event once the surrounding transaction commits.
+     */
+    public void release(Long eventId, int seats) {
+        TransactionCallbacks.afterCommit(() -> {
+            counter(eventId).addAndGet(seats);
+            changed.add(eventId);
+            recordWrite(eventId, seats);
+        });
+    }
+
+    /**
+     * Applies a change that was already written to the Event row directly,
+     * such as an admin resizing the event. A counter that is not loaded yet
+     * reads the change from the row when it is.
+     */
+    public void adjust(Long eventId, int delta) {
+        TransactionCallbacks.afterCommit(() -> {
+            if (available.computeIfPresent(eventId, (id, counter) -> {
+                counter.addAndGet(delta);
+                return counter;
+            }) != null)
+                changed.add(eventId);
+        });
+    }
+
+    public void register(Long eventId, int availableSeats) {
+        available.put(eventId, new AtomicInteger(availableSeats));
+        changed.add(eventId);
+    }
+
+    public void remove(Long eventId) {
+        TransactionCallbacks.afterCommit(() -> {
+            available.remove(eventId);
+            pendingWrites.remove(eventId);
+            changed.remove(eventId);
+        });
+    }
+
+    public int getAvailable(Long eventId) {
+        return counter(eventId).get();
+    }
+
+    /**
+     * Live seat count when the event is loaded, otherwise the given value read
+     * from the Event row (which is exact while no write is pending).
+     */
+    public int getAvailableOrDefault(Long eventId, int fallback) {
+        AtomicInteger counter = available.get(eventId);
+        return counter != null ? counter.get() : fallback;
+    }
+
+    /**
+     * Returns the events whose seat count changed since the previous call.
+     */
+    public List<Long> drainChanged() {
+        List<Long> drained = new ArrayList<>();
+        for (Long eventId : changed) {
+            if (changed.remove(eventId))
+                drained.add(eventId);
+        }
+        return drained;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.inventory.flush-interval-ms:200}")
+    public void flush() {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (Long eventId : pendingWrites.keySet().stream().sorted().toList()) {
+            Integer delta = pendingWrites.remove(eventId);
+            if (delta != null && delta != 0) {
+                batch.add(new Object[] { delta, eventId });
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(ADJUST_SQL, batch));
+        } catch (RuntimeException ex) {
+            log.warn("Seat write-back failed for {} events, will retry", batch.size(), ex);
+            for (Object[] row : batch) {
+                recordWrite((Long) row[1], (Integer) row[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private AtomicInteger counter(Long eventId) {
+        return available.computeIfAbsent(eventId, id -> {
+            SeatTally tally = eventRepository.findSeatTally(id, BookingStatus.ACTIVE)
+                    .orElseThrow(() -> new IllegalStateException("Event not found"));
+            return new AtomicInteger(load(tally));
+        });
+    }
+
+    // Queues the difference for the row when it missed releases that were never flushed
+    private int load(SeatTally tally) {
+        int remaining = tally.getTotalSeats() - tally.getBookedSeats().intValue();
+        int missed = remaining - tally.getAvailableSeats();
+        if (missed != 0) {
+            log.warn("Event {} stored {} available seats for {} by its bookings, correcting",
+                    tally.getId(), tally.getAvailableSeats(), remaining);
+            recordWrite(tally.getId(), missed);
+        }
+        return remaining;
+    }
+
+    private void recordWrite(Long eventId, int delta) {
+        pendingWrites.merge(eventId, delta, Integer::sum);
+    }
+}
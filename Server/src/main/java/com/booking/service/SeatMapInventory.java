@@ -0,0 +1,203 @@
+package com.booking.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.booking.modal.BookingStatus;
+import com.booking.modal.SeatMap;
+import com.booking.repository.BookingRepository;
+import com.booking.repository.BookingRepository.BookingSeats;
+import com.booking.repository.SeatMapRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process seat maps of reserved-seating events, loaded on first use.
+ * Events without a seat map are remembered too, so general admission
+ * bookings do not look one up each time.
+ *
+ * A map is written back whole, guarded by its revision. Claimed seats go out
+ * with the booking batch that stores them; released seats are written back
+ * by {@link #flush}. A crash can therefore leave a seat marked taken that
+ * was freed, never the other way round, and a map whose free seats disagree
+ * with the event's counter is rebuilt from its bookings when it is loaded.
+ */
+@Component
+public class SeatMapInventory {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatMapInventory.class);
+
+    private static final String WRITE_SQL =
+            "UPDATE seat_map SET taken = ?, revision = ? WHERE event_id = ? AND revision < ?";
+
+    // Placeholder for events that have no seat map
+    private static final SeatBitmap NONE = SeatBitmap.empty("-:0x0", 0);
+
+    private final SeatMapRepository seatMapRepository;
+    private final BookingRepository bookingRepository;
+    private final SeatInventory seatInventory;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, SeatBitmap> maps = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public SeatMapInventory(SeatMapRepository seatMapRepository,
+                            BookingRepository bookingRepository,
+                            SeatInventory seatInventory,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate) {
+        this.seatMapRepository = seatMapRepository;
+        this.bookingRepository = bookingRepository;
+        this.seatInventory = seatInventory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public boolean hasSeatMap(Long eventId) {
+        return map(eventId) != NONE;
+    }
+
+    /**
+     * The event's seat map, or null for general admission.
+     */
+    public SeatBitmap get(Long eventId) {
+        SeatBitmap map = map(eventId);
+        return map == NONE ? null : map;
+    }
+
+    /**
+     * Claims the best {@code seats} adjacent seats. The caller owns storing
+     * the booking, which writes the map back, or handing the seats back
+     * with {@link #restore}.
+     *
+     * @return index of the first seat, or -1 when no row has enough adjacent seats free
+     */
+    public int claim(Long eventId, int seats, String section) {
+        SeatBitmap map = map(eventId);
+        if (map == NONE)
+            throw new IllegalStateException("Event has no seat map");
+        if (section != null && !map.hasSection(section))
+            throw new IllegalArgumentException("Unknown section " + section);
+        return map.claimBestAvailable(seats, section);
+    }
+
+    public void restore(Long eventId, int firstSeat, int seats) {
+        map(eventId).release(firstSeat, seats);
+        dirty.add(eventId);
+    }
+
+    /**
+     * Frees the booking's seats once the surrounding transaction commits.
+     * Does nothing for general admission bookings.
+     */
+    public void release(Long eventId, Integer firstSeat, int seats) {
+        if (firstSeat == null)
+            return;
+        TransactionCallbacks.afterCommit(() -> {
+            SeatBitmap map = maps.get(eventId);
+            if (map != null && map != NONE) {
+                map.release(firstSeat, seats);
+                dirty.add(eventId);
+            }
+        });
+    }
+
+    public void register(Long eventId, SeatBitmap map) {
+        TransactionCallbacks.afterCommit(() -> {
+            maps.put(eventId, map);
+            dirty.remove(eventId);
+        });
+    }
+
+    public void remove(Long eventId) {
+        TransactionCallbacks.afterCommit(() -> {
+            maps.remove(eventId);
+            dirty.remove(eventId);
+        });
+    }
+
+    public List<String> labels(Long eventId, int firstSeat, int seats) {
+        return map(eventId).labels(firstSeat, seats);
+    }
+
+    /**
+     * Writes the maps of the given events in the caller's transaction.
+     */
+    public void write(Collection<Long> eventIds) {
+        List<Object[]> args = new ArrayList<>(eventIds.size());
+        for (Long eventId : eventIds) {
+            SeatBitmap map = maps.get(eventId);
+            if (map != null && map != NONE)
+                args.add(snapshot(eventId, map));
+        }
+        if (!args.isEmpty())
+            jdbcTemplate.batchUpdate(WRITE_SQL, args);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.inventory.flush-interval-ms:200}")
+    public void flush() {
+        if (dirty.isEmpty())
+            return;
+
+        List<Long> eventIds = new ArrayList<>();
+        for (Long eventId : dirty) {
+            if (dirty.remove(eventId))
+                eventIds.add(eventId);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(eventIds));
+        } catch (RuntimeException ex) {
+            log.warn("Seat map write-back failed for {} events, will retry", eventIds.size(), ex);
+            dirty.addAll(eventIds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // The revision is read before the bits: a copy never claims a newer revision than its contents
+    private static Object[] snapshot(Long eventId, SeatBitmap map) {
+        long revision = map.revision();
+        return new Object[] { map.toBytes(), revision, eventId, revision };
+    }
+
+    private SeatBitmap map(Long eventId) {
+        return maps.computeIfAbsent(eventId, this::load);
+    }
+
+    private SeatBitmap load(Long eventId) {
+        // Fails for unknown events, so they are not remembered
+        int available = seatInventory.getAvailable(eventId);
+        SeatMap stored = seatMapRepository.findById(eventId).orElse(null);
+        if (stored == null)
+            return NONE;
+
+        SeatBitmap map = SeatBitmap.of(stored.getLayout(), stored.getTaken(), stored.getRevision());
+        if (map.free() == available)
+            return map;
+
+        SeatBitmap rebuilt = SeatBitmap.empty(stored.getLayout(), stored.getRevision() + 1);
+        List<BookingSeats> bookings = bookingRepository.findSeatedByEventId(eventId, BookingStatus.ACTIVE);
+        for (BookingSeats booking : bookings) {
+            rebuilt.take(booking.getFirstSeat(), booking.getSeats());
+        }
+        log.warn("Seat map of event {} had {} free seats for {} available, rebuilt from {} bookings",
+                eventId, map.free(), available, bookings.size());
+        dirty.add(eventId);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,12 @@
+package com.booking.service;
+
+import com.booking.request.SeatMapRequest;
+import com.booking.response.SeatMapResponse;
+
+public interface SeatMapService {
+
+	SeatMapResponse setSeatMap(Long eventId, SeatMapRequest request);
+
+	SeatMapResponse getSeatMap(Long eventId);
+
+}
@@ -0,0 +1,110 @@
+package com.booking.service;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.booking.modal.BookingStatus;
+import com.booking.modal.Event;
+import com.booking.modal.SeatMap;
+import com.booking.repository.BookingRepository;
+import com.booking.repository.EventRepository;
+import com.booking.repository.SeatMapRepository;
+import com.booking.request.SeatMapRequest;
+import com.booking.request.SeatSectionRequest;
+import com.booking.response.SeatMapResponse;
+import com.booking.response.SeatSection;
+
+import jakarta.transaction.Transactional;
+
+@Service
+public class SeatMapServiceImpl implements SeatMapService {
+
+    private static final int MAX_SEATS = 200_000;
+
+    private final EventRepository eventRepository;
+    private final BookingRepository bookingRepository;
+    private final SeatMapRepository seatMapRepository;
+    private final SeatInventory seatInventory;
+    private final SeatMapInventory seatMapInventory;
+    private final EventCatalogCache eventCatalogCache;
+
+    public SeatMapServiceImpl(EventRepository eventRepository,
+                              BookingRepository bookingRepository,
+                              SeatMapRepository seatMapRepository,
+                              SeatInventory seatInventory,
+                              SeatMapInventory seatMapInventory,
+                              EventCatalogCache eventCatalogCache) {
+        this.eventRepository = eventRepository;
+        this.bookingRepository = bookingRepository;
+        this.seatMapRepository = seatMapRepository;
+        this.seatInventory = seatInventory;
+        this.seatMapInventory = seatMapInventory;
+        this.eventCatalogCache = eventCatalogCache;
+    }
+
+    // The layout sets the event's seat count, so it can only change while nothing is booked
+    @Override
+    @Transactional
+    public SeatMapResponse setSeatMap(Long eventId, SeatMapRequest request) {
+        Event event = eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+
+        List<String> names = new ArrayList<>();
+        List<Integer> rows = new ArrayList<>();
+        List<Integer> seatsPerRow = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        long seats = 0;
+        for (SeatSectionRequest section : request.getSections()) {
+            if (!seen.add(section.getName()))
+                throw new IllegalArgumentException("Duplicate section " + section.getName());
+            names.add(section.getName());
+            rows.add(section.getRows());
+            seatsPerRow.add(section.getSeatsPerRow());
+            seats += (long) section.getRows() * section.getSeatsPerRow();
+        }
+        if (seats > MAX_SEATS)
+            throw new IllegalArgumentException("A seat map can have at most " + MAX_SEATS + " seats");
+
+        if (bookingRepository.countByEventIdAndStatusIn(eventId, BookingStatus.ACTIVE) > 0)
+            throw new IllegalStateException("Seat map can only be changed before the first booking");
+
+        String layout = SeatBitmap.layout(names, rows, seatsPerRow);
+        // A replaced map carries on from the old revision, so older copies still lose
+        long revision = seatMapRepository.findById(eventId).map(old -> old.getRevision() + 1).orElse(0L);
+        SeatBitmap map = SeatBitmap.empty(layout, revision);
+        seatMapRepository.save(new SeatMap(eventId, layout, map.toBytes(), revision));
+
+        int seatDifference = map.size() - event.getTotalSeats();
+        event.setTotalSeats(map.size());
+        event.setAvailableSeats(event.getAvailableSeats() + seatDifference);
+        eventRepository.save(event);
+        seatInventory.adjust(eventId, seatDifference);
+        seatMapInventory.register(eventId, map);
+        eventCatalogCache.invalidate(eventId);
+
+        return toResponse(eventId, map);
+    }
+
+    @Override
+    public SeatMapResponse getSeatMap(Long eventId) {
+        SeatBitmap map = seatMapInventory.get(eventId);
+        if (map == null)
+            throw new IllegalStateException("Event has no seat map");
+        return toResponse(eventId, map);
+    }
+
+    private static SeatMapResponse toResponse(Long eventId, SeatBitmap map) {
+        List<String> names = map.sections();
+        List<SeatSection> sections = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            sections.add(new SeatSection(names.get(i), map.rows(i), map.seatsPerRow(i), map.sectionStart(i)));
+        }
+        return new SeatMapResponse(eventId, map.size(), map.free(), sections,
+                Base64.getEncoder().encodeToString(map.toBytes()));
+    }
+}
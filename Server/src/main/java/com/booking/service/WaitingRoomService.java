@@ -0,0 +1,19 @@
+package com.booking.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.booking.response.QueueStatusResponse;
+
+public interface WaitingRoomService {
+
+	QueueStatusResponse join(Long eventId, String userEmail);
+
+	QueueStatusResponse getStatus(String ticketId, String userEmail);
+
+	SseEmitter streamStatus(String ticketId, String userEmail);
+
+	QueueStatusResponse admit(Long eventId, String userEmail);
+
+	void setRate(Long eventId, double ratePerSecond);
+
+}
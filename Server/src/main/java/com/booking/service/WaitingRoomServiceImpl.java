@@ -0,0 +1,150 @@
+package com.booking.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.booking.response.QueueStatusResponse;
+
+/**
+ * Admission control in front of POST /bookings. Every booking attempt takes
+ * a ticket in its event's queue and is let through only once the event's
+ * admission rate has reached the ticket's position. Everything here is in
+ * memory, so queued and rejected attempts never reach the database.
+ */
+@Service
+public class WaitingRoomServiceImpl implements WaitingRoomService {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitingRoomServiceImpl.class);
+
+    private final AdmissionStore admissionStore;
+    private final SeatInventory seatInventory;
+    private final boolean enabled;
+    private final double defaultRate;
+    private final long idleTimeoutNanos;
+
+    private final Map<SseEmitter, QueueTicket> watchers = new ConcurrentHashMap<>();
+
+    public WaitingRoomServiceImpl(AdmissionStore admissionStore,
+                                  SeatInventory seatInventory,
+                                  @Value("${booking.queue.enabled:true}") boolean enabled,
+                                  @Value("${booking.queue.rate-per-second:50}") double defaultRate,
+                                  @Value("${booking.queue.idle-timeout-seconds:60}") long idleTimeoutSeconds) {
+        this.admissionStore = admissionStore;
+        this.seatInventory = seatInventory;
+        this.enabled = enabled;
+        this.defaultRate = defaultRate;
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+    }
+
+    @Override
+    public QueueStatusResponse join(Long eventId, String userEmail) {
+        requireEvent(eventId);
+        long now = System.nanoTime();
+        return status(admissionStore.issue(eventId, userEmail, now), now);
+    }
+
+    @Override
+    public QueueStatusResponse getStatus(String ticketId, String userEmail) {
+        long now = System.nanoTime();
+        QueueTicket ticket = findTicket(ticketId, userEmail);
+        ticket.touch(now);
+        return status(ticket, now);
+    }
+
+    @Override
+    public SseEmitter streamStatus(String ticketId, String userEmail) {
+        QueueTicket ticket = findTicket(ticketId, userEmail);
+
+        SseEmitter emitter = new SseEmitter(TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos));
+        emitter.onCompletion(() -> watchers.remove(emitter));
+        emitter.onTimeout(() -> watchers.remove(emitter));
+        emitter.onError(ex -> watchers.remove(emitter));
+        watchers.put(emitter, ticket);
+        push(emitter, ticket, System.nanoTime());
+        return emitter;
+    }
+
+    @Override
+    public QueueStatusResponse admit(Long eventId, String userEmail) {
+        if (!enabled)
+            return new QueueStatusResponse(null, eventId, 0, true, 0);
+
+        requireEvent(eventId);
+        long now = System.nanoTime();
+        QueueTicket ticket = admissionStore.issue(eventId, userEmail, now);
+        QueueStatusResponse status = status(ticket, now);
+
+        // An admitted ticket is good for one booking attempt
+        if (status.isAdmitted())
+            admissionStore.remove(ticket);
+        return status;
+    }
+
+    @Override
+    public void setRate(Long eventId, double ratePerSecond) {
+        if (ratePerSecond <= 0)
+            throw new IllegalArgumentException("Admission rate must be positive");
+        requireEvent(eventId);
+        admissionStore.setRate(eventId, ratePerSecond);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.queue.push-interval-ms:1000}")
+    public void pushStatuses() {
+        long now = System.nanoTime();
+        watchers.forEach((emitter, ticket) -> push(emitter, ticket, now));
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public void purgeIdleTickets() {
+        int purged = admissionStore.purgeIdle(System.nanoTime() - idleTimeoutNanos);
+        if (purged > 0)
+            log.info("Dropped {} idle waiting room tickets", purged);
+    }
+
+    private void push(SseEmitter emitter, QueueTicket ticket, long now) {
+        // Consumed by a booking or dropped as idle
+        if (admissionStore.find(ticket.getId()) == null) {
+            emitter.complete();
+            return;
+        }
+
+        ticket.touch(now);
+        QueueStatusResponse status = status(ticket, now);
+        try {
+            emitter.send(SseEmitter.event().name("position").data(status));
+            if (status.isAdmitted())
+                emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            watchers.remove(emitter);
+        }
+    }
+
+    // Loads the event's seat counter, so unknown ids fail before a queue is made for them
+    private void requireEvent(Long eventId) {
+        seatInventory.getAvailable(eventId);
+    }
+
+    private QueueTicket findTicket(String ticketId, String userEmail) {
+        QueueTicket ticket = admissionStore.find(ticketId);
+        if (ticket == null || !ticket.getUserEmail().equals(userEmail))
+            throw new IllegalArgumentException("Queue ticket not found");
+        return ticket;
+    }
+
+    private QueueStatusResponse status(QueueTicket ticket, long now) {
+        Long eventId = ticket.getEventId();
+        long admittedUpTo = admissionStore.admittedUpTo(eventId, defaultRate, now);
+        long ahead = Math.max(0, ticket.getPosition() - admittedUpTo);
+        long waitSeconds = (long) Math.ceil(ahead / admissionStore.getRate(eventId, defaultRate));
+        return new QueueStatusResponse(ticket.getId(), eventId, ahead, ahead == 0, waitSeconds);
+    }
+}
@@ -0,0 +1,103 @@
+package com.booking.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SeatBitmapTest {
+
+    @Test
+    void claimsFromTheMiddleOfTheFrontRow() {
+        SeatBitmap map = SeatBitmap.empty("A:2x10", 0);
+
+        assertEquals(3, map.claimBestAvailable(4, null));
+        assertEquals(List.of("A-1-4", "A-1-5", "A-1-6", "A-1-7"), map.labels(3, 4));
+        assertEquals(16, map.free());
+    }
+
+    @Test
+    void findsRunAcrossWordBoundary() {
+        SeatBitmap map = SeatBitmap.empty("A:1x100", 0);
+        map.take(0, 60);
+        map.take(70, 30);
+
+        // Seats 60 to 69 are the only free run; it spans bits 60..63 and 64..69
+        assertEquals(-1, map.claimBestAvailable(11, null));
+        assertEquals(60, map.claimBestAvailable(10, null));
+        assertEquals(0, map.free());
+    }
+
+    @Test
+    void carriesRunThroughWholeFreeWords() {
+        SeatBitmap map = SeatBitmap.empty("A:1x200", 0);
+        map.take(0, 10);
+        map.take(190, 10);
+
+        assertEquals(-1, map.claimBestAvailable(181, null));
+        assertEquals(25, map.claimBestAvailable(150, null));
+    }
+
+    @Test
+    void doesNotJoinRowsThatEndMidWord() {
+        // Rows are seats 0-29, 30-59 and 60-89, so rows two and three share a word
+        SeatBitmap map = SeatBitmap.empty("A:3x30", 0);
+        map.take(0, 30);
+        map.take(30, 25);
+
+        // Seats 55-59 and 60-62 are adjacent bits but not adjacent seats
+        assertEquals(71, map.claimBestAvailable(8, null));
+        assertEquals(55, map.claimBestAvailable(5, null));
+    }
+
+    @Test
+    void claimsAndSkipsFullRows() {
+        SeatBitmap map = SeatBitmap.empty("A:2x64", 0);
+
+        assertEquals(-1, map.claimBestAvailable(65, null));
+        assertEquals(0, map.claimBestAvailable(64, null));
+        assertEquals(64, map.claimBestAvailable(64, null));
+        assertEquals(-1, map.claimBestAvailable(1, null));
+        assertEquals(0, map.free());
+    }
+
+    @Test
+    void keepsToTheRequestedSection() {
+        SeatBitmap map = SeatBitmap.empty("A:1x10,B:1x10", 0);
+
+        assertEquals(13, map.claimBestAvailable(4, "B"));
+        assertEquals(3, map.claimBestAvailable(4, null));
+        assertEquals(-1, map.claimBestAvailable(7, "B"));
+        assertEquals(-1, map.claimBestAvailable(1, "C"));
+        assertEquals(List.of("B-1-4"), map.labels(13, 1));
+    }
+
+    @Test
+    void releasedSeatsCanBeClaimedAgain() {
+        SeatBitmap map = SeatBitmap.empty("A:2x20", 0);
+
+        assertEquals(0, map.claimBestAvailable(20, null));
+        assertEquals(20, map.claimBestAvailable(20, null));
+        assertEquals(-1, map.claimBestAvailable(1, null));
+
+        map.release(0, 20);
+        assertEquals(20, map.free());
+        assertEquals(7, map.claimBestAvailable(5, null));
+        assertEquals(4, map.revision());
+    }
+
+    @Test
+    void survivesStoringAsBytes() {
+        SeatBitmap map = SeatBitmap.empty("A:3x30", 0);
+        map.take(58, 5);
+        map.take(0, 1);
+
+        SeatBitmap copy = SeatBitmap.of("A:3x30", map.toBytes(), map.revision());
+        assertArrayEquals(map.toBytes(), copy.toBytes());
+        assertEquals(map.free(), copy.free());
+        assertEquals(-1, copy.claimBestAvailable(30, null));
+        assertEquals(1, copy.claimBestAvailable(28, null));
+    }
+}
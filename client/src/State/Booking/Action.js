@@ -8,6 +8,7 @@ import {
 import toast from "react-hot-toast";
 import {
   bookEventApi,
+  getUserBookingsApi,
 } from "../../api/bookingApi";
 import axiosInstance from "../../api/axiosInstance";
 
@@ -42,12 +43,7 @@ export const getUserBookings = () => async (dispatch) => {
   dispatch({ type: BOOKING_REQUEST });
 
   try {
-    const response = await axiosInstance.get("/bookings"); 
-    console.log("Axios raw response:", response); 
-
-    // Check if your data is nested differently
-    const bookingsData = response.data.data || response.data; 
-    console.log("Bookings data:", bookingsData);
+    const bookingsData = await getUserBookingsApi();
 
     dispatch({
       type: GET_BOOKINGS_SUCCESS,
@@ -6,6 +6,7 @@ import {
   EVENT_UPDATE_SUCCESS,
   EVENT_DELETE_SUCCESS,
   EVENT_GET_ONE_SUCCESS,
+  EVENT_AVAILABILITY_UPDATE,
 } from "./ActionType";
 
 import {
@@ -14,6 +15,7 @@ import {
   updateEventApi,
   deleteEventApi,
   getEventByIdApi,
+  subscribeAvailabilityApi,
 } from "../../api/eventApi";
 
 export const getAllEvents = () => async (dispatch) => {
@@ -116,4 +118,13 @@ export const deleteEvent = (id) => async (dispatch) => {
         error.response?.data?.message || "Failed to delete event",
     });
   }
-};
\ No newline at end of file
+};
+
+// Keeps availableSeats live; call the returned function to unsubscribe
+export const subscribeAvailability = (eventIds) => (dispatch) =>
+  subscribeAvailabilityApi(eventIds, (update) =>
+    dispatch({
+      type: EVENT_AVAILABILITY_UPDATE,
+      payload: update,
+    })
+  );
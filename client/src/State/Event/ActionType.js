@@ -6,4 +6,5 @@ export const EVENT_CREATE_SUCCESS = "EVENT_CREATE_SUCCESS";
 export const EVENT_UPDATE_SUCCESS = "EVENT_UPDATE_SUCCESS";
 export const EVENT_DELETE_SUCCESS = "EVENT_DELETE_SUCCESS";
 
-export const EVENT_GET_ONE_SUCCESS = "EVENT_GET_ONE_SUCCESS";
\ No newline at end of file
+export const EVENT_GET_ONE_SUCCESS = "EVENT_GET_ONE_SUCCESS";
+export const EVENT_AVAILABILITY_UPDATE = "EVENT_AVAILABILITY_UPDATE";
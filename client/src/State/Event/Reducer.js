@@ -6,6 +6,7 @@ import {
   EVENT_UPDATE_SUCCESS,
   EVENT_DELETE_SUCCESS,
   EVENT_GET_ONE_SUCCESS,
+  EVENT_AVAILABILITY_UPDATE,
 } from "./ActionType";
 
 const initialState = {
@@ -70,6 +71,20 @@ export const eventReducer = (state = initialState, action) => {
         ),
       };
 
+    case EVENT_AVAILABILITY_UPDATE:
+      return {
+        ...state,
+        events: state.events.map((event) =>
+          event.id === action.payload.eventId
+            ? { ...event, availableSeats: action.payload.availableSeats }
+            : event
+        ),
+        selectedEvent:
+          state.selectedEvent?.id === action.payload.eventId
+            ? { ...state.selectedEvent, availableSeats: action.payload.availableSeats }
+            : state.selectedEvent,
+      };
+
     case EVENT_FAILURE:
       return {
         ...state,
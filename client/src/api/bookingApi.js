@@ -5,9 +5,16 @@ export const bookEventApi = async (data) => {
   return res.data;
 };
 
+// The server pages its answer; X-Next-Page is set while there are more
 export const getUserBookingsApi = async () => {
-  const res = await axiosInstance.get("/bookings");
-  return res.data;
+  const bookings = [];
+  let page = 0;
+  while (page !== undefined) {
+    const res = await axiosInstance.get("/bookings", { params: { page, size: 500 } });
+    bookings.push(...res.data);
+    page = res.headers["x-next-page"];
+  }
+  return bookings;
 };
 
 export const cancelBookingApi = async (id) => {
@@ -22,4 +22,12 @@ export const deleteEventApi = async (id) => {
 export const getEventByIdApi = async (id) => {
   const res = await axiosInstance.get(`/events/${id}`);
   return res.data;
-};
\ No newline at end of file
+};
+
+// Server-sent seat counts; returns a function that closes the stream
+export const subscribeAvailabilityApi = (eventIds, onUpdate) => {
+  const url = `${axiosInstance.defaults.baseURL}/events/availability/stream?eventIds=${eventIds.join(",")}`;
+  const source = new EventSource(url);
+  source.addEventListener("availability", (e) => onUpdate(JSON.parse(e.data)));
+  return () => source.close();
+};
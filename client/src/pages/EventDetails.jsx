@@ -1,7 +1,7 @@
 import React, { useEffect, useState } from "react";
 import { useDispatch, useSelector } from "react-redux";
 import { useParams, useNavigate } from "react-router-dom";
-import { getEventById } from "../State/Event/Action";
+import { getEventById, subscribeAvailability } from "../State/Event/Action";
 import { bookEvent } from "../State/Booking/Action";
 import toast from "react-hot-toast";
 import { motion, AnimatePresence } from "framer-motion";
@@ -37,6 +37,8 @@ export default function EventDetails() {
     dispatch(getEventById(id));
   }, [dispatch, id]);
 
+  useEffect(() => dispatch(subscribeAvailability([id])), [dispatch, id]);
+
   const handleBooking = async () => {
     if (seats > selectedEvent?.availableSeats) {
       toast.error("Not enough seats available");